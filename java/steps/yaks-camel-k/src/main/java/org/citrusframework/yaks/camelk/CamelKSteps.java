@@ -24,9 +24,11 @@ import java.util.List;
 import java.util.Map;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.TestActionBuilder;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
@@ -37,6 +39,7 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.yaks.camelk.actions.integration.CreateIntegrationAction;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -44,19 +47,26 @@ import org.springframework.core.io.Resource;
 import static com.consol.citrus.actions.CreateVariablesAction.Builder.createVariable;
 import static com.consol.citrus.container.Assert.Builder.assertException;
 import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
+import static com.consol.citrus.container.Parallel.Builder.parallel;
+import static com.consol.citrus.container.Sequence.Builder.sequential;
 import static org.citrusframework.yaks.camelk.actions.CamelKActionBuilder.camelk;
+import static org.citrusframework.yaks.kubernetes.actions.KubernetesActionBuilder.kubernetes;
 
 public class CamelKSteps {
 
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
     private KubernetesClient k8sClient;
 
     private boolean autoRemoveResources = CamelKSettings.isAutoRemoveResources();
+    private boolean cleanupRegistered;
     private int maxAttempts = CamelKSettings.getMaxAttempts();
     private long delayBetweenAttempts = CamelKSettings.getDelayBetweenAttempts();
 
@@ -73,6 +83,9 @@ public class CamelKSteps {
             k8sClient = KubernetesSupport.getKubernetesClient(citrus);
         }
 
+        KubernetesCleanup.runId(context);
+        cleanupRegistered = false;
+
         propertyFiles = new ArrayList<>();
         properties = new LinkedHashMap<>();
         buildPropertyFiles = new ArrayList<>();
@@ -172,8 +185,48 @@ public class CamelKSteps {
         }
     }
 
+    @Given("^load Camel K integrations in parallel$")
+    public void loadIntegrationsInParallel(DataTable fileNames) {
+        List<TestActionBuilder<?>> branches = new ArrayList<>();
+        for (String fileName : fileNames.asList()) {
+            String name = fileName.substring(0, fileName.lastIndexOf("."));
+            try {
+                String source = FileUtils.readToString(new ClassPathResource(fileName));
+
+                if (autoRemoveResources) {
+                    registerCleanup();
+                }
+
+                branches.add(sequential().actions(
+                        camelk()
+                            .client(k8sClient)
+                            .createIntegration(fileName)
+                            .properties(properties)
+                            .propertyFiles(propertyFiles)
+                            .buildProperties(buildProperties)
+                            .buildPropertyFiles(buildPropertyFiles)
+                            .supportVariables(supportVariablesInSources)
+                            .source(source),
+                        camelk()
+                            .client(k8sClient)
+                            .verifyIntegration(name)
+                            .maxAttempts(maxAttempts)
+                            .delayBetweenAttempts(delayBetweenAttempts)
+                            .isRunning()));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(String.format("Failed to load Camel K integration from resource %s", fileName), e);
+            }
+        }
+
+        runner.run(parallel().actions(branches.toArray(new TestActionBuilder<?>[0])));
+    }
+
     @Given("^(?:create|new) Camel K integration ([a-z0-9][a-z0-9-\\.]+[a-z0-9])\\.([a-z0-9-]+)$")
 	public void createIntegration(String name, String language, String source) {
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(camelk()
                     .client(k8sClient)
                     .createIntegration(name + "." + language)
@@ -183,11 +236,6 @@ public class CamelKSteps {
                     .buildPropertyFiles(buildPropertyFiles)
                     .supportVariables(supportVariablesInSources)
                     .source(source));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(name)));
-        }
 	}
 
     @Given("^delete Camel K integration ([a-z0-9-]+)$")
@@ -270,11 +318,26 @@ public class CamelKSteps {
             }
         }
 
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(create);
+    }
 
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(configuration.getOrDefault("name", name))));
+    /**
+     * Adds the cleanup action deleting all resources labeled with the scenario run id. Added only once per scenario.
+     */
+    private void registerCleanup() {
+        if (cleanupRegistered) {
+            return;
         }
+
+        KubernetesCleanup.enable(context);
+        runner.then(doFinally()
+                .actions(kubernetes().client(k8sClient)
+                        .resources()
+                        .cleanup()));
+        cleanupRegistered = true;
     }
 }
@@ -24,6 +24,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
@@ -36,6 +37,7 @@ import org.citrusframework.yaks.camelk.model.KameletBindingSpec;
 import org.citrusframework.yaks.camelk.model.KameletSpec;
 import org.citrusframework.yaks.kafka.KafkaSettings;
 import org.citrusframework.yaks.knative.KnativeSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -44,6 +46,7 @@ import org.springframework.util.StringUtils;
 import static com.consol.citrus.actions.CreateVariablesAction.Builder.createVariable;
 import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.camelk.actions.CamelKActionBuilder.camelk;
+import static org.citrusframework.yaks.kubernetes.actions.KubernetesActionBuilder.kubernetes;
 
 
 public class KameletSteps {
@@ -51,6 +54,9 @@ public class KameletSteps {
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -71,6 +77,7 @@ public class KameletSteps {
     private String namespace = CamelKSettings.getNamespace();
 
     private boolean autoRemoveResources = CamelKSettings.isAutoRemoveResources();
+    private boolean cleanupRegistered;
     private boolean supportVariablesInSources = CamelKSettings.isSupportVariablesInSources();
 
     @Before
@@ -79,6 +86,9 @@ public class KameletSteps {
             k8sClient = KubernetesSupport.getKubernetesClient(citrus);
         }
 
+        KubernetesCleanup.runId(context);
+        cleanupRegistered = false;
+
         initializeKameletBuilder();
         initializeKameletBindingBuilder();
     }
@@ -205,30 +215,30 @@ public class KameletSteps {
     @Given("^load Kamelet ([a-z0-9-]+).kamelet.yaml$")
     public void loadKameletFromFile(String fileName) {
         Resource resource = new ClassPathResource(fileName + ".kamelet.yaml");
+
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(camelk()
                 .client(k8sClient)
                 .createKamelet(fileName)
                 .supportVariables(supportVariablesInSources)
                 .resource(resource));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKamelet(fileName)));
-        }
     }
 
     @Given("^load KameletBinding ([a-z0-9-]+).yaml$")
     public void loadKameletBindingFromFile(String fileName) {
         Resource resource = new ClassPathResource(fileName + ".yaml");
+
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(camelk()
                 .client(k8sClient)
                 .createKameletBinding(fileName)
                 .resource(resource));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKameletBinding(fileName)));
-        }
     }
 
     @Given("^(?:create|new) Kamelet ([a-z0-9-]+)$")
@@ -241,6 +251,10 @@ public class KameletSteps {
 
         kamelet.definition(definition);
 
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(camelk()
                     .client(k8sClient)
                     .createKamelet(name)
@@ -248,11 +262,6 @@ public class KameletSteps {
                     .fromBuilder(kamelet));
 
         initializeKameletBuilder();
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKamelet(name)));
-        }
 	}
 
     @Deprecated
@@ -277,17 +286,16 @@ public class KameletSteps {
         binding.source(source);
         binding.sink(sink);
 
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(camelk()
                 .client(k8sClient)
                 .createKameletBinding(name)
                 .fromBuilder(binding));
 
         initializeKameletBindingBuilder();
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteKameletBinding(name)));
-        }
     }
 
     @Given("^delete Kamelet ([a-z0-9-]+)$")
@@ -334,4 +342,20 @@ public class KameletSteps {
         sourceProperties = new HashMap<>();
         sinkProperties = new HashMap<>();
     }
+
+    /**
+     * Deletes Kamelets and bindings of this scenario by run label at the end of the scenario.
+     */
+    private void registerCleanup() {
+        if (cleanupRegistered) {
+            return;
+        }
+
+        KubernetesCleanup.enable(context);
+        runner.then(doFinally()
+                .actions(kubernetes().client(k8sClient)
+                        .resources()
+                        .cleanup()));
+        cleanupRegistered = true;
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Camel K modeline instructions (e.g. "// camel-k: dependency=mvn:org.foo:bar:1.0") given in an integration source.
+ * Source is parsed in a single pass with a precompiled pattern.
+ *
+ * @author Christoph Deppisch
+ */
+public final class Modeline {
+
+    private static final Pattern MODELINE_PATTERN =
+            Pattern.compile("^// camel-k: ?(dependency|trait|build-property|config)=(.+)$", Pattern.MULTILINE);
+
+    /** Marker that must be present in the source in order to contain any modeline */
+    private static final String MODELINE_MARKER = "// camel-k:";
+
+    private static final Modeline EMPTY = new Modeline();
+
+    private final List<String> dependencies = new ArrayList<>();
+    private final List<String> traits = new ArrayList<>();
+    private final List<String> buildProperties = new ArrayList<>();
+    private final List<String> configs = new ArrayList<>();
+
+    private Modeline() {
+        // use parse method
+    }
+
+    /**
+     * Parse modeline instructions in given source.
+     * @param source
+     * @return
+     */
+    public static Modeline parse(String source) {
+        if (source == null || !source.contains(MODELINE_MARKER)) {
+            return EMPTY;
+        }
+
+        Modeline modeline = new Modeline();
+        Matcher matcher = MODELINE_PATTERN.matcher(source);
+        while (matcher.find()) {
+            String value = matcher.group(2);
+            switch (matcher.group(1)) {
+                case "dependency":
+                    modeline.dependencies.add(value);
+                    break;
+                case "trait":
+                    modeline.traits.add(value);
+                    break;
+                case "build-property":
+                    modeline.buildProperties.add(value);
+                    break;
+                default:
+                    modeline.configs.add(value);
+            }
+        }
+
+        return modeline;
+    }
+
+    /**
+     * Gets the dependency modelines in order of appearance.
+     * @return
+     */
+    public List<String> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+
+    /**
+     * Gets the trait modelines in order of appearance.
+     * @return
+     */
+    public List<String> getTraits() {
+        return Collections.unmodifiableList(traits);
+    }
+
+    /**
+     * Gets the build property modelines in order of appearance.
+     * @return
+     */
+    public List<String> getBuildProperties() {
+        return Collections.unmodifiableList(buildProperties);
+    }
+
+    /**
+     * Gets the runtime configuration modelines in order of appearance.
+     * @return
+     */
+    public List<String> getConfigs() {
+        return Collections.unmodifiableList(configs);
+    }
+}
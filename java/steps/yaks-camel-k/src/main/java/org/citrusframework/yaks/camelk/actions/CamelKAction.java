@@ -20,6 +20,7 @@ package org.citrusframework.yaks.camelk.actions;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import org.citrusframework.yaks.YaksVariableNames;
 import org.citrusframework.yaks.camelk.VariableNames;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 
@@ -40,7 +41,8 @@ public interface CamelKAction extends TestAction {
 
     /**
      * Resolves namespace name from given test context using the stored test variable.
-     * Fallback to the namespace given in Kubernetes environment settings when no test variable is present.
+     * Fallback to the namespace leased from the namespace pool or the namespace given in Kubernetes environment settings
+     * when no test variable is present.
      *
      * @param context
      * @return
@@ -50,6 +52,10 @@ public interface CamelKAction extends TestAction {
             return context.getVariable(VariableNames.CAMEL_K_NAMESPACE.value());
         }
 
+        if (context.getVariables().containsKey(YaksVariableNames.NAMESPACE_LEASE.value())) {
+            return context.getVariable(YaksVariableNames.NAMESPACE_LEASE.value());
+        }
+
         return KubernetesSettings.getNamespace();
     }
 }
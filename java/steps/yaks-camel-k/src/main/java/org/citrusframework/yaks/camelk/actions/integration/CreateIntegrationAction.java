@@ -25,7 +25,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.consol.citrus.context.TestContext;
@@ -35,10 +34,12 @@ import com.consol.citrus.variable.VariableUtils;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.camelk.CamelKSettings;
 import org.citrusframework.yaks.camelk.CamelKSupport;
+import org.citrusframework.yaks.camelk.Modeline;
 import org.citrusframework.yaks.camelk.actions.AbstractCamelKAction;
 import org.citrusframework.yaks.camelk.model.Integration;
 import org.citrusframework.yaks.camelk.model.IntegrationList;
 import org.citrusframework.yaks.camelk.model.IntegrationSpec;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 
 /**
  * Test action creates new Camel K integration with given name and source code. Uses given Kubernetes client to
@@ -48,6 +49,9 @@ import org.citrusframework.yaks.camelk.model.IntegrationSpec;
  */
 public class CreateIntegrationAction extends AbstractCamelKAction {
 
+    /** Property expression format key=value */
+    private static final Pattern PROPERTY_FORMAT_PATTERN = Pattern.compile("[^\\s]+=.*");
+
     private final String integrationName;
     private final String fileName;
     private final String source;
@@ -96,17 +100,21 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
                 .name(context.replaceDynamicContentInString(integrationName))
                 .source(context.replaceDynamicContentInString(fileName), resolvedSource);
 
-        List<String> resolvedDependencies = resolveDependencies(resolvedSource, context.resolveDynamicValuesInList(dependencies));
+        Modeline modeline = Modeline.parse(resolvedSource);
+
+        List<String> resolvedDependencies = resolveDependencies(modeline, context.resolveDynamicValuesInList(dependencies));
         if (!resolvedDependencies.isEmpty()) {
             integrationBuilder.dependencies(resolvedDependencies);
         }
         addPropertyConfigurationSpec(integrationBuilder, context);
-        addBuildPropertyConfigurationSpec(integrationBuilder, resolvedSource, context);
-        addRuntimeConfigurationSpec(integrationBuilder, resolvedSource, context);
-        addTraitSpec(integrationBuilder, resolvedSource, context);
+        addBuildPropertyConfigurationSpec(integrationBuilder, modeline, context);
+        addRuntimeConfigurationSpec(integrationBuilder, modeline);
+        addTraitSpec(integrationBuilder, modeline, context);
         addOpenApiSpec(integrationBuilder, context);
 
         final Integration i = integrationBuilder.build();
+        KubernetesCleanup.label(i, namespace(context), context);
+
         CustomResourceDefinitionContext ctx = CamelKSupport.integrationCRDContext(CamelKSettings.getApiVersion());
         getKubernetesClient().customResources(ctx, Integration.class, IntegrationList.class)
                 .inNamespace(namespace(context))
@@ -119,7 +127,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         openApis.forEach((k, v) -> integrationBuilder.openApi(k, context.replaceDynamicContentInString(v)));
     }
 
-    private void addTraitSpec(Integration.Builder integrationBuilder, String source, TestContext context) {
+    private void addTraitSpec(Integration.Builder integrationBuilder, Modeline modeline, TestContext context) {
         final Map<String, IntegrationSpec.TraitConfig> traitConfigMap = new HashMap<>();
 
         if (traits != null && !traits.isEmpty()) {
@@ -128,10 +136,8 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             }
         }
 
-        Pattern pattern = getModelinePattern("trait");
-        Matcher depMatcher = pattern.matcher(source);
-        while (depMatcher.find()) {
-            addTraitSpec(depMatcher.group(1), traitConfigMap);
+        for (String trait : modeline.getTraits()) {
+            addTraitSpec(trait, traitConfigMap);
         }
 
         if (!traitConfigMap.isEmpty()) {
@@ -222,7 +228,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addBuildPropertyConfigurationSpec(Integration.Builder integrationBuilder, String source, TestContext context) {
+    private void addBuildPropertyConfigurationSpec(Integration.Builder integrationBuilder, Modeline modeline, TestContext context) {
         final String traitName = "builder.properties";
         final Map<String, IntegrationSpec.TraitConfig> traitConfigMap = new HashMap<>();
 
@@ -252,10 +258,8 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             }
         }
 
-        Pattern pattern = getModelinePattern("build-property");
-        Matcher depMatcher = pattern.matcher(source);
-        while (depMatcher.find()) {
-            addTraitSpec(String.format("%s=%s", traitName, depMatcher.group(1)), traitConfigMap);
+        for (String buildProperty : modeline.getBuildProperties()) {
+            addTraitSpec(String.format("%s=%s", traitName, buildProperty), traitConfigMap);
         }
 
         if (!traitConfigMap.isEmpty()) {
@@ -263,17 +267,15 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addRuntimeConfigurationSpec(Integration.Builder integrationBuilder, String source, TestContext context) {
+    private void addRuntimeConfigurationSpec(Integration.Builder integrationBuilder, Modeline modeline) {
         final List<IntegrationSpec.Configuration> configurationList = new ArrayList<>();
 
-        Pattern pattern = getModelinePattern("config");
-        Matcher depMatcher = pattern.matcher(source);
-        while (depMatcher.find()) {
-            String[] config = depMatcher.group(1).split(":", 2);
+        for (String configExpression : modeline.getConfigs()) {
+            String[] config = configExpression.split(":", 2);
             if (config.length == 2) {
                 configurationList.add(new IntegrationSpec.Configuration(config[0], config[1]));
             } else {
-                configurationList.add(new IntegrationSpec.Configuration("property", depMatcher.group(1)));
+                configurationList.add(new IntegrationSpec.Configuration("property", configExpression));
             }
         }
 
@@ -296,27 +298,20 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
      * @return
      */
     private static boolean isValidPropertyFormat(String property) {
-        String patternString = "[^\\s]+=.*";
-
-        Pattern pattern = Pattern.compile(patternString);
-
-        Matcher matcher = pattern.matcher(property);
-        return matcher.matches();
+        return PROPERTY_FORMAT_PATTERN.matcher(property).matches();
     }
 
     /**
      * Resolve dependencies for Camel K integration and support modeline instructions in given source.
-     * @param source
+     * @param modeline
      * @param dependencies
      * @return
      */
-    private static List<String> resolveDependencies(String source, List<String> dependencies) {
+    private static List<String> resolveDependencies(Modeline modeline, List<String> dependencies) {
         List<String> resolved = new ArrayList<>(dependencies);
 
-        Pattern pattern = getModelinePattern("dependency");
-        Matcher depMatcher = pattern.matcher(source);
-        while (depMatcher.find()) {
-            String dependency = depMatcher.group(1);
+        for (String modelineDependency : modeline.getDependencies()) {
+            String dependency = modelineDependency;
 
             if (dependency.startsWith("camel-quarkus-")) {
                 dependency = "camel:" + dependency.substring("camel-quarkus-".length());
@@ -332,15 +327,6 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         return resolved;
     }
 
-    /**
-     * Create regexp pattern to match Camel K modeling instruction with given name.
-     * @param name
-     * @return
-     */
-    private static Pattern getModelinePattern(String name) {
-        return Pattern.compile(String.format("^// camel-k: ?%s=(.+)$", name), Pattern.MULTILINE);
-    }
-
     /**
      * Action builder.
      */
@@ -17,14 +17,24 @@
 
 package org.citrusframework.yaks.camelk.actions.integration;
 
+import java.util.List;
+import java.util.Optional;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.camelk.CamelKSettings;
+import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.actions.AbstractCamelKAction;
+import org.citrusframework.yaks.camelk.model.Integration;
+import org.citrusframework.yaks.camelk.model.IntegrationList;
+import org.citrusframework.yaks.kubernetes.KubernetesResourceCache;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,7 +84,7 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     }
 
     /**
-     * Wait for integration pod to log given message.
+     * Wait for integration pod to log given message. Streams the pod logs and scans the log lines as they arrive.
      * @param pod
      * @param name
      * @param namespace
@@ -83,47 +93,36 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     private void verifyIntegrationLogs(Pod pod, String name, String namespace, String message) {
         if (printLogs) {
             INTEGRATION_LOG.info(String.format("Waiting for pod '%s' to log message", name));
+        } else {
+            LOG.info(String.format("Waiting for integration '%s' to log message", name));
         }
 
-        String log;
-        int offset = 0;
-
-        for (int i = 0; i < maxAttempts; i++) {
-            log = getIntegrationPodLogs(pod, namespace);
-
-            if (printLogs && (offset < log.length())) {
-                INTEGRATION_LOG.info(log.substring(offset));
-                offset = log.length();
-            }
-
-            if (log.contains(message)) {
-                LOG.info("Verified integration logs - All values OK!");
-                return;
-            }
-
-            if (!printLogs) {
-                LOG.warn(String.format("Waiting for integration '%s' to log message - retry in %s ms", name, delayBetweenAttempts));
-            }
+        long timeout = maxAttempts * delayBetweenAttempts;
+        boolean found = KubernetesSupport.waitForLogMessage(sinceTime -> watchIntegrationPodLogs(pod, namespace, sinceTime), message,
+                timeout, delayBetweenAttempts, line -> {
+                    if (printLogs) {
+                        INTEGRATION_LOG.info(line);
+                    }
+                });
 
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration pod logs", e);
-            }
+        if (found) {
+            LOG.info("Verified integration logs - All values OK!");
+            return;
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(timeout,
                 new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
-                        "has not printed message '%s' after %d attempts", name, logMessage, maxAttempts)));
+                        "has not printed message '%s' after %d ms", name, logMessage, timeout)));
     }
 
     /**
-     * Retrieve log messages from given pod.
+     * Open log watch with timestamps on given pod.
      * @param pod
      * @param namespace
+     * @param sinceTime optional RFC3339 timestamp to start the log stream at.
      * @return
      */
-    private String getIntegrationPodLogs(Pod pod, String namespace) {
+    private LogWatch watchIntegrationPodLogs(Pod pod, String namespace, String sinceTime) {
         PodResource<Pod> podRes = getKubernetesClient().pods()
                 .inNamespace(namespace)
                 .withName(pod.getMetadata().getName());
@@ -133,13 +132,19 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
             containerName = pod.getSpec().getContainers().get(0).getName();
         }
 
-        String logs;
         if (containerName != null) {
-            logs = podRes.inContainer(containerName).getLog();
+            if (sinceTime != null) {
+                return podRes.inContainer(containerName).usingTimestamps().sinceTime(sinceTime).watchLog();
+            }
+
+            return podRes.inContainer(containerName).usingTimestamps().watchLog();
         } else {
-            logs = podRes.getLog();
+            if (sinceTime != null) {
+                return podRes.usingTimestamps().sinceTime(sinceTime).watchLog();
+            }
+
+            return podRes.usingTimestamps().watchLog();
         }
-        return logs;
     }
 
     /**
@@ -152,7 +157,13 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     private Pod verifyIntegrationPod(String name, String phase, String namespace) {
         INTEGRATION_STATUS_LOG.info(String.format("Waiting for integration '%s' to be in state '%s'", name, phase));
 
+        if (KubernetesSettings.isCacheResources()) {
+            return verifyCachedIntegrationPod(name, phase, namespace);
+        }
+
         for (int i = 0; i < maxAttempts; i++) {
+            verifyIntegrationNoError(name, phase, namespace);
+
             Pod pod = getIntegrationPod(name, phase, namespace);
             if (pod != null) {
                 LOG.info(String.format("Verified integration pod '%s' state '%s' - All values OK!", name, phase));
@@ -163,7 +174,8 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
             try {
                 Thread.sleep(delayBetweenAttempts);
             } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration pod state", e);
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for integration '%s' in state '%s'", name, phase), e);
             }
         }
 
@@ -172,6 +184,49 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
                         "is not in state '%s' after %d attempts", name, phase, maxAttempts)));
     }
 
+    /**
+     * Wait for given pod to be in given state using the shared pod cache. Evaluates the pod state each time
+     * the cache receives a change event.
+     * @param name
+     * @param phase
+     * @param namespace
+     * @return
+     */
+    private Pod verifyCachedIntegrationPod(String name, String phase, String namespace) {
+        KubernetesResourceCache<Pod> cache = KubernetesResourceCache.pods(getKubernetesClient(), namespace);
+
+        long timeout = maxAttempts * delayBetweenAttempts;
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        do {
+            long changes = cache.changes();
+            verifyIntegrationNoError(name, phase, namespace);
+
+            List<Pod> candidates = cache.list(CamelKSettings.INTEGRATION_LABEL, name);
+            Optional<Pod> pod = candidates.stream()
+                    .filter(candidate -> KubernetesSupport.verifyPodStatus(candidate, phase))
+                    .findFirst();
+
+            if (pod.isPresent()) {
+                LOG.info(String.format("Verified integration pod '%s' state '%s' - All values OK!", name, phase));
+                return pod.get();
+            }
+
+            verifyNoFailure(candidates, name, phase);
+
+            INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' not yet in state '%s'. Waiting for pod changes ...", name, phase));
+            try {
+                cache.awaitChange(changes, stoppingAt - System.currentTimeMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for integration '%s' in state '%s'", name, phase), e);
+            }
+        } while (stoppingAt - System.currentTimeMillis() > 0);
+
+        throw new ActionTimeoutException(timeout,
+                new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
+                        "is not in state '%s' after %d ms", name, phase, timeout)));
+    }
+
     /**
      * Retrieve pod given state.
      * @param integration
@@ -189,18 +244,73 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
             INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' not yet available. Will keep checking ...", integration));
         }
 
-        return pods.getItems().stream()
-                .filter(pod -> {
-                    boolean verified = KubernetesSupport.verifyPodStatus(pod, phase);
+        Optional<Pod> verified = pods.getItems().stream()
+                .filter(pod -> KubernetesSupport.verifyPodStatus(pod, phase))
+                .findFirst();
 
-                    if (!verified) {
-                        INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' not yet in state '%s'. Will keep checking ...", integration, phase));
-                    }
+        if (!verified.isPresent()) {
+            verifyNoFailure(pods.getItems(), integration, phase);
+            INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' not yet in state '%s'. Will keep checking ...", integration, phase));
+        }
+
+        return verified.orElse(null);
+    }
+
+    /**
+     * Fails immediately when the integration is expected to be running but none of the integration pods is able to become
+     * ready anymore. Error message includes the last container states and the tail of the pod logs of a failed pod.
+     * @param candidates
+     * @param integration
+     * @param phase
+     */
+    private void verifyNoFailure(List<Pod> candidates, String integration, String phase) {
+        if (!"Running".equals(phase)) {
+            return;
+        }
+
+        Optional<Pod> failed = KubernetesSupport.getUnrecoverablePod(candidates);
+        if (failed.isPresent()) {
+            throw new CitrusRuntimeException(String.format("Failed to verify integration '%s' - %s%n%s",
+                    integration, KubernetesSupport.getPodFailure(failed.get()).orElse("pod failed"),
+                    KubernetesSupport.getPodDiagnostics(getKubernetesClient(), failed.get())));
+        }
+    }
+
+    /**
+     * Fails immediately when the integration is expected to be running but the integration resource is in phase Error
+     * (e.g. because the integration kit build has failed).
+     * @param integration
+     * @param phase
+     * @param namespace
+     */
+    private void verifyIntegrationNoError(String integration, String phase, String namespace) {
+        if (!"Running".equals(phase) || !KubernetesSettings.isFailFast()) {
+            return;
+        }
+
+        CustomResourceDefinitionContext ctx = CamelKSupport.integrationCRDContext(CamelKSettings.getApiVersion());
+        Integration resource = getKubernetesClient().customResources(ctx, Integration.class, IntegrationList.class)
+                .inNamespace(namespace)
+                .withName(integration)
+                .get();
+
+        if (resource == null || resource.getStatus() == null || !"Error".equalsIgnoreCase(resource.getStatus().getPhase())) {
+            return;
+        }
+
+        StringBuilder details = new StringBuilder();
+        if (resource.getStatus().getFailure() != null) {
+            details.append(String.format("%n  failure: %s", resource.getStatus().getFailure()));
+        }
+
+        if (resource.getStatus().getConditions() != null) {
+            resource.getStatus().getConditions().stream()
+                    .filter(condition -> !"True".equals(condition.getStatus()))
+                    .forEach(condition -> details.append(String.format("%n  %s: %s - %s", condition.getType(), condition.getReason(), condition.getMessage())));
+        }
 
-                    return verified;
-                })
-                .findFirst()
-                .orElse(null);
+        throw new CitrusRuntimeException(String.format("Failed to verify integration '%s' - integration is in phase 'Error'%s",
+                integration, details));
     }
 
     /**
@@ -34,6 +34,7 @@ import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.model.Kamelet;
 import org.citrusframework.yaks.camelk.model.KameletList;
 import org.citrusframework.yaks.camelk.model.KameletSpec;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
@@ -135,6 +136,8 @@ public class CreateKameletAction extends AbstractKameletAction {
             }
         }
 
+        KubernetesCleanup.label(kamelet, namespace(context), context);
+
         CustomResourceDefinitionContext ctx = CamelKSupport.kameletCRDContext(CamelKSettings.getKameletApiVersion());
         getKubernetesClient().customResources(ctx, Kamelet.class, KameletList.class)
                 .inNamespace(namespace(context))
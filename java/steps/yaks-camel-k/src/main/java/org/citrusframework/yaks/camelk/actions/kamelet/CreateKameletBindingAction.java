@@ -31,6 +31,7 @@ import org.citrusframework.yaks.camelk.model.Integration;
 import org.citrusframework.yaks.camelk.model.KameletBinding;
 import org.citrusframework.yaks.camelk.model.KameletBindingList;
 import org.citrusframework.yaks.camelk.model.KameletBindingSpec;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.core.io.Resource;
 
@@ -109,6 +110,8 @@ public class CreateKameletBindingAction extends AbstractKameletAction {
             }
         }
 
+        KubernetesCleanup.label(binding, namespace(context), context);
+
         CustomResourceDefinitionContext ctx = CamelKSupport.kameletBindingCRDContext(CamelKSettings.getKameletApiVersion());
         getKubernetesClient().customResources(ctx, KameletBinding.class, KameletBindingList.class)
                 .inNamespace(namespace(context))
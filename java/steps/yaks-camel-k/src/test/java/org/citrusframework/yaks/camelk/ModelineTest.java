@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ModelineTest {
+
+    @Test
+    public void shouldParseModelines() {
+        Modeline modeline = Modeline.parse("// camel-k: dependency=mvn:org.foo:bar:1.0\n" +
+                "// camel-k:trait=quarkus.enabled=true\n" +
+                "// camel-k: build-property=quarkus.foo=bar\n" +
+                "// camel-k: config=secret:my-secret\n" +
+                "// camel-k: unknown=foo\n" +
+                "// camel-k: dependency=camel-quarkus-jackson\r\n" +
+                "from('timer:tick?period=1000').to('log:info')");
+
+        Assert.assertEquals(Arrays.asList("mvn:org.foo:bar:1.0", "camel-quarkus-jackson"), modeline.getDependencies());
+        Assert.assertEquals(Collections.singletonList("quarkus.enabled=true"), modeline.getTraits());
+        Assert.assertEquals(Collections.singletonList("quarkus.foo=bar"), modeline.getBuildProperties());
+        Assert.assertEquals(Collections.singletonList("secret:my-secret"), modeline.getConfigs());
+    }
+
+    @Test
+    public void shouldIgnoreSourceWithoutModelines() {
+        Modeline modeline = Modeline.parse("from('timer:tick?period=1000').to('log:info')");
+
+        Assert.assertTrue(modeline.getDependencies().isEmpty());
+        Assert.assertTrue(modeline.getTraits().isEmpty());
+        Assert.assertTrue(modeline.getBuildProperties().isEmpty());
+        Assert.assertTrue(modeline.getConfigs().isEmpty());
+    }
+}
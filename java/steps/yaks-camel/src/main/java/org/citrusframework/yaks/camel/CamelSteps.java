@@ -57,7 +57,6 @@ import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.spi.XMLRoutesDefinitionLoader;
 import org.apache.camel.spring.SpringCamelContext;
 import org.citrusframework.yaks.groovy.GroovyShellUtils;
-import org.codehaus.groovy.control.customizers.ImportCustomizer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.GenericXmlApplicationContext;
 import org.springframework.core.io.ByteArrayResource;
@@ -174,7 +173,7 @@ public class CamelSteps {
 
     @Given("^bind to Camel registry ([^\"\\s]+)\\.groovy$")
     public void bindComponent(String name, String configurationScript) {
-        Object component = GroovyShellUtils.run(new ImportCustomizer(),
+        Object component = GroovyShellUtils.run(GroovyShellUtils.starImports(),
                 context.replaceDynamicContentInString(configurationScript), citrus, context);
 
         if (component instanceof InitializingPhase) {
@@ -241,10 +240,7 @@ public class CamelSteps {
         RouteBuilder routeBuilder = new RouteBuilder(camelContext()) {
             @Override
             public void configure() throws Exception {
-                ImportCustomizer ic = new ImportCustomizer();
-                ic.addStarImports("org.apache.camel");
-
-                GroovyShellUtils.run(ic, this, context.replaceDynamicContentInString(route), citrus, context);
+                GroovyShellUtils.run(GroovyShellUtils.starImports("org.apache.camel"), this, context.replaceDynamicContentInString(route), citrus, context);
             }
 
             @Override
@@ -17,10 +17,15 @@
 
 package org.citrusframework.yaks.groovy;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
-import groovy.lang.MissingPropertyException;
+import com.consol.citrus.spi.ReferenceResolver;
+import groovy.lang.MetaProperty;
 import groovy.util.DelegatingScript;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 /**
  * @author Christoph Deppisch
@@ -30,35 +35,63 @@ public abstract class GroovyScript extends DelegatingScript {
     private Citrus citrusFramework;
     private TestContext context;
 
+    /** Beans already resolved from the reference resolvers by this script instance */
+    private final Map<String, Object> resolvedBeans = new HashMap<>();
+
+    /**
+     * Resolves property without using exceptions for control flow. Checks script properties, Citrus framework and test context,
+     * references in test context, test variables, references in Citrus context and delegate properties in this order. Falls back to regular meta class property lookup only when all of these do not provide the property.
+     * @param propertyName
+     * @return
+     */
     @Override
     public Object getProperty(String propertyName) {
-        try {
-            return getMetaClass().getProperty(this, propertyName);
-        } catch (NullPointerException | MissingPropertyException e) {
-            if (propertyName.equals("citrus")) {
-                return citrusFramework;
-            }
+        MetaProperty scriptProperty = getMetaClass().hasProperty(this, propertyName);
+        if (scriptProperty != null) {
+            return scriptProperty.getProperty(this);
+        }
 
-            if (propertyName.equals("context")) {
-                return context;
-            }
+        if (propertyName.equals("citrus")) {
+            return citrusFramework;
+        }
+
+        if (propertyName.equals("context")) {
+            return context;
+        }
 
-            if (context != null) {
-                if (context.getReferenceResolver().isResolvable(propertyName)) {
-                    return context.getReferenceResolver().resolve(propertyName);
-                }
+        if (resolvedBeans.containsKey(propertyName)) {
+            return resolvedBeans.get(propertyName);
+        }
 
-                if (context.getVariables().containsKey(propertyName)) {
-                    return context.getVariable(propertyName);
-                }
+        if (context != null) {
+            if (context.getReferenceResolver().isResolvable(propertyName)) {
+                return resolveBean(context.getReferenceResolver(), propertyName);
             }
 
-            if (citrusFramework != null && citrusFramework.getCitrusContext().getReferenceResolver().isResolvable(propertyName)) {
-                return citrusFramework.getCitrusContext().getReferenceResolver().resolve(propertyName);
+            if (context.getVariables().containsKey(propertyName)) {
+                return context.getVariable(propertyName);
             }
+        }
+
+        if (citrusFramework != null && citrusFramework.getCitrusContext().getReferenceResolver().isResolvable(propertyName)) {
+            return resolveBean(citrusFramework.getCitrusContext().getReferenceResolver(), propertyName);
+        }
 
-            throw e;
+        Object delegate = getDelegate();
+        if (delegate != null) {
+            MetaProperty delegateProperty = InvokerHelper.getMetaClass(delegate).hasProperty(delegate, propertyName);
+            if (delegateProperty != null) {
+                return delegateProperty.getProperty(delegate);
+            }
         }
+
+        return getMetaClass().getProperty(this, propertyName);
+    }
+
+    private Object resolveBean(ReferenceResolver referenceResolver, String name) {
+        Object bean = referenceResolver.resolve(name);
+        resolvedBeans.put(name, bean);
+        return bean;
     }
 
     public void setCitrusFramework(Citrus citrus) {
@@ -39,7 +39,6 @@ import io.cucumber.java.en.Then;
 import org.citrusframework.yaks.groovy.dsl.ConfigurationScript;
 import org.citrusframework.yaks.groovy.dsl.actions.ActionScript;
 import org.citrusframework.yaks.groovy.dsl.endpoints.EndpointConfigurationScript;
-import org.codehaus.groovy.control.customizers.ImportCustomizer;
 import org.springframework.core.io.Resource;
 
 /**
@@ -65,7 +64,7 @@ public class GroovyScriptSteps {
 
     @Given("^(?:create|new) configuration$")
     public void createConfiguration(String config) {
-        GroovyShellUtils.run(new ImportCustomizer(), new ConfigurationScript(citrus),
+        GroovyShellUtils.run(GroovyShellUtils.starImports(), new ConfigurationScript(citrus),
                 context.replaceDynamicContentInString(config), citrus, context);
     }
 
@@ -78,7 +77,7 @@ public class GroovyScriptSteps {
 
     @Given("^(?:create|new) endpoint ([^\"\\s]+)\\.groovy$")
     public void createEndpoint(String name, String configurationScript) {
-        EndpointBuilder<?> builder = GroovyShellUtils.run(new ImportCustomizer(), new EndpointConfigurationScript(),
+        EndpointBuilder<?> builder = GroovyShellUtils.run(GroovyShellUtils.starImports(), new EndpointConfigurationScript(),
                 context.replaceDynamicContentInString(configurationScript), citrus, context);
         Endpoint endpoint = builder.build();
 
@@ -106,7 +105,7 @@ public class GroovyScriptSteps {
 
     @Given("^(?:create|new|bind) component ([^\"\\s]+)\\.groovy$")
     public void createComponent(String name, String configurationScript) {
-        Object component = GroovyShellUtils.run(new ImportCustomizer(),
+        Object component = GroovyShellUtils.run(GroovyShellUtils.starImports(),
                 context.replaceDynamicContentInString(configurationScript), citrus, context);
 
         if (component instanceof InitializingPhase) {
@@ -172,7 +171,7 @@ public class GroovyScriptSteps {
         if (ActionScript.isActionScript(script)) {
             new ActionScript(script, citrus, context).execute(runner);
         } else {
-            GroovyShellUtils.run(new ImportCustomizer(),
+            GroovyShellUtils.run(GroovyShellUtils.starImports(),
                     context.replaceDynamicContentInString(script), citrus, context);
         }
     }
@@ -17,16 +17,23 @@
 
 package org.citrusframework.yaks.groovy;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
+import groovy.lang.GroovyClassLoader;
 import groovy.lang.Script;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 /**
  * @author Christoph Deppisch
@@ -35,6 +42,18 @@ public final class GroovyShellUtils {
 
     private static final Pattern COMMENTS = Pattern.compile("^(?:\\s*//|/\\*|\\s+\\*).*$", Pattern.MULTILINE);
 
+    /** LRU cache of compiled script classes */
+    private static final Map<List<Object>, Class<? extends Script>> SCRIPTS = Collections.synchronizedMap(
+            new LinkedHashMap<List<Object>, Class<? extends Script>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, Class<? extends Script>> eldest) {
+                    return size() > GroovySettings.getScriptCacheSize();
+                }
+            });
+
+    /** Shared import customizers */
+    private static final Map<List<String>, ImportCustomizer> IMPORTS = new ConcurrentHashMap<>();
+
     private GroovyShellUtils() {
         // prevent instantiation of utility class
     }
@@ -61,14 +80,7 @@ public final class GroovyShellUtils {
      * @return script result
      */
     public static <T> T run(ImportCustomizer ic, Object delegate, String scriptCode, Citrus citrus, TestContext context) {
-        CompilerConfiguration cc = new CompilerConfiguration();
-        cc.addCompilationCustomizers(ic);
-        cc.setScriptBaseClass(GroovyScript.class.getName());
-
-        ClassLoader cl = Thread.currentThread().getContextClassLoader();
-        GroovyShell sh = new GroovyShell(cl, new Binding(), cc);
-
-        Script script = sh.parse(scriptCode);
+        Script script = InvokerHelper.createScript(compile(ic, scriptCode), new Binding());
 
         if (script instanceof GroovyScript) {
             if (delegate != null) {
@@ -83,6 +95,43 @@ public final class GroovyShellUtils {
         return (T) script.run();
     }
 
+    /**
+     * Get shared import customizer with given star imports. Use shared customizers when running scripts
+     * as compiled scripts are cached per import customizer instance.
+     * @param packageNames
+     * @return
+     */
+    public static ImportCustomizer starImports(String... packageNames) {
+        return IMPORTS.computeIfAbsent(Arrays.asList(packageNames), key -> new ImportCustomizer().addStarImports(packageNames));
+    }
+
+    /**
+     * Get compiled script class for given script code. Compiled script classes are cached by
+     * normalized script code, import customizer and class loader. Each script gets its own class loader
+     * so evicted script classes can be garbage collected.
+     * @param ic
+     * @param scriptCode
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Script> compile(ImportCustomizer ic, String scriptCode) {
+        String normalized = scriptCode.trim();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Object> key = Arrays.asList(normalized, GroovyScript.class.getName(), ic, cl);
+
+        Class<? extends Script> scriptClass = SCRIPTS.get(key);
+        if (scriptClass == null) {
+            CompilerConfiguration cc = new CompilerConfiguration();
+            cc.addCompilationCustomizers(ic);
+            cc.setScriptBaseClass(GroovyScript.class.getName());
+
+            scriptClass = (Class<? extends Script>) new GroovyClassLoader(cl, cc).parseClass(normalized);
+            SCRIPTS.put(key, scriptClass);
+        }
+
+        return scriptClass;
+    }
+
     /**
      * Remove leading comments such as license header.
      * @param script
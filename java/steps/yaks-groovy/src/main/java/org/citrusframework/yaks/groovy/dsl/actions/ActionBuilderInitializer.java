@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy.dsl.actions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.consol.citrus.TestActionBuilder;
+import groovy.lang.GroovyRuntimeException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates action builder instances via static initializing method on the builder type. Initializing methods
+ * are resolved once per argument type signature and cached as method handles.
+ * @author Christoph Deppisch
+ */
+public final class ActionBuilderInitializer {
+
+    private final String id;
+    private final Class<? extends TestActionBuilder<?>> builderType;
+
+    private final Map<List<Class<?>>, MethodHandle> initializers = new ConcurrentHashMap<>();
+
+    public ActionBuilderInitializer(String id, Class<? extends TestActionBuilder<?>> builderType) {
+        this.id = id;
+        this.builderType = builderType;
+    }
+
+    /**
+     * Invoke initializing method with given arguments to create a new action builder instance.
+     * @param args
+     * @return
+     */
+    public TestActionBuilder<?> getActionBuilder(Object... args) {
+        Class<?>[] paramTypes = Arrays.stream(args).map(Object::getClass).toArray(Class[]::new);
+        MethodHandle initializer = initializers.computeIfAbsent(Arrays.asList(paramTypes), this::findInitializer);
+
+        try {
+            return (TestActionBuilder<?>) initializer.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new GroovyRuntimeException("Failed to get action builder", e);
+        }
+    }
+
+    /**
+     * Find static initializing method on builder type matching given parameter types. Prefers exact matches
+     * and falls back to a method with assignable parameter types.
+     * @param paramTypes
+     * @return method handle accepting the arguments as object array.
+     */
+    private MethodHandle findInitializer(List<Class<?>> paramTypes) {
+        Class<?>[] types = paramTypes.toArray(new Class[0]);
+        Method initializer = ReflectionUtils.findMethod(builderType, id, types);
+        if (initializer == null) {
+            initializer = Arrays.stream(builderType.getMethods())
+                    .filter(method -> method.getName().equals(id))
+                    .filter(method -> Modifier.isStatic(method.getModifiers()))
+                    .filter(method -> !method.isVarArgs() && method.getParameterCount() == types.length)
+                    .filter(method -> isAssignable(method.getParameterTypes(), types))
+                    .findFirst()
+                    .orElseThrow(() -> new GroovyRuntimeException(String.format("Failed to find initializing method %s(%s) for action builder type %s",
+                            id, Arrays.toString(types), builderType.getName())));
+        }
+
+        try {
+            return MethodHandles.publicLookup()
+                    .unreflect(initializer)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(TestActionBuilder.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new GroovyRuntimeException("Failed to access initializing method for action builder type " + builderType.getName(), e);
+        }
+    }
+
+    private static boolean isAssignable(Class<?>[] parameterTypes, Class<?>[] argTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!ClassUtils.isAssignable(parameterTypes[i], argTypes[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Class<? extends TestActionBuilder<?>> getBuilderType() {
+        return builderType;
+    }
+}
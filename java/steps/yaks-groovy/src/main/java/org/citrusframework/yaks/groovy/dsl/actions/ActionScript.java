@@ -21,7 +21,6 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestActionRunner;
 import com.consol.citrus.context.TestContext;
 import org.citrusframework.yaks.groovy.GroovyShellUtils;
-import org.codehaus.groovy.control.customizers.ImportCustomizer;
 
 /**
  * @author Christoph Deppisch
@@ -39,8 +38,7 @@ public class ActionScript {
     }
 
     public void execute(TestActionRunner runner) {
-        ImportCustomizer ic = new ImportCustomizer();
-        GroovyShellUtils.run(ic, new ActionsConfiguration(runner), normalize(script), citrus, context);
+        GroovyShellUtils.run(GroovyShellUtils.starImports(), new ActionsConfiguration(runner), normalize(script), citrus, context);
     }
 
     private String normalize(String script) {
@@ -17,9 +17,9 @@
 
 package org.citrusframework.yaks.groovy.dsl.actions;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.TestActionBuilder;
 import com.consol.citrus.actions.CreateVariablesAction;
@@ -39,7 +39,6 @@ import com.consol.citrus.container.RepeatUntilTrue;
 import com.consol.citrus.container.Sequence;
 import com.consol.citrus.container.Timer;
 import groovy.lang.GroovyRuntimeException;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * Set of supported test actions that can be used in a Groovy shell script.
@@ -65,12 +64,21 @@ public enum Actions {
     TIMER("timer", Timer.Builder.class),
     DO_FINALLY("doFinally", FinallySequence.Builder.class);
 
+    /** Index of action builder initializers by id including custom registered action builders */
+    private static final Map<String, ActionBuilderInitializer> INITIALIZERS = new ConcurrentHashMap<>();
+
+    static {
+        for (Actions action : values()) {
+            INITIALIZERS.put(action.id, action.initializer);
+        }
+    }
+
     private final String id;
-    private final Class<? extends TestActionBuilder<?>> builderType;
+    private final ActionBuilderInitializer initializer;
 
     Actions(String id, Class<? extends TestActionBuilder<?>> builderType) {
         this.id = id;
-        this.builderType = builderType;
+        this.initializer = new ActionBuilderInitializer(id, builderType);
     }
 
     public String id() {
@@ -78,22 +86,35 @@ public enum Actions {
     }
 
     public static Actions fromId(String id) {
-        return Arrays.stream(values())
-                .filter(action -> action.id.equals(id))
-                .findFirst()
-                .orElseThrow(() -> new GroovyRuntimeException(String.format("No action builder for id %s", id)));
+        for (Actions action : values()) {
+            if (action.id.equals(id)) {
+                return action;
+            }
+        }
+
+        throw new GroovyRuntimeException(String.format("No action builder for id %s", id));
+    }
+
+    /**
+     * Register custom action builder type with given id. The builder type must provide a static initializing
+     * method named after the id. Overwrites any existing action builder with the same id.
+     * @param id
+     * @param builderType
+     */
+    public static void register(String id, Class<? extends TestActionBuilder<?>> builderType) {
+        INITIALIZERS.put(id, new ActionBuilderInitializer(id, builderType));
+    }
+
+    /**
+     * Find action builder initializer for given id. Includes custom registered action builders.
+     * @param id
+     * @return
+     */
+    public static Optional<ActionBuilderInitializer> lookup(String id) {
+        return Optional.ofNullable(INITIALIZERS.get(id));
     }
 
     public TestActionBuilder<?> getActionBuilder(Object... args) {
-        try {
-            Class<?>[] paramTypes = Arrays.stream(args).map(Object::getClass).toArray(Class[]::new);
-            Method initializer = ReflectionUtils.findMethod(builderType, id, paramTypes);
-            if (initializer == null) {
-                throw new GroovyRuntimeException(String.format("Failed to find initializing method %s(%s) for action builder type %s", Arrays.toString(paramTypes), id, builderType.getName()));
-            }
-            return (TestActionBuilder<?>) initializer.invoke(null, args);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new GroovyRuntimeException("Failed to get action builder", e);
-        }
+        return initializer.getActionBuilder(args);
     }
 }
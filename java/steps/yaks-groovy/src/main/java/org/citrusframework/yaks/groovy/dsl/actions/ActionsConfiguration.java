@@ -144,10 +144,9 @@ public class ActionsConfiguration {
         }
 
         private TestActionBuilder<?> findTestActionBuilder(String id, Object[] args) {
-            if (args == null || args.length == 0) {
-                return Actions.fromId(id).getActionBuilder();
-            }
-            return Actions.fromId(id).getActionBuilder(args);
+            return Actions.lookup(id)
+                    .map(initializer -> initializer.getActionBuilder(args == null ? new Object[0] : args))
+                    .orElse(null);
         }
     }
 }
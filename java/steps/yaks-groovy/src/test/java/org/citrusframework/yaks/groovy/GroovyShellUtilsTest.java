@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import org.assertj.core.api.Assertions;
+import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyShellUtilsTest {
+
+    private final ImportCustomizer ic = GroovyShellUtils.starImports("java.util");
+
+    @Test
+    public void shouldShareImportCustomizers() {
+        Assertions.assertThat(GroovyShellUtils.starImports("java.util")).isSameAs(ic);
+        Assertions.assertThat(GroovyShellUtils.starImports("java.util", "java.io")).isNotSameAs(ic);
+    }
+
+    @Test
+    public void shouldReuseCompiledScript() {
+        Class<?> first = GroovyShellUtils.run(ic, "return this.class", null, newContext());
+        Class<?> second = GroovyShellUtils.run(ic, "  return this.class\n", null, newContext());
+        Class<?> otherImports = GroovyShellUtils.run(GroovyShellUtils.starImports("java.io"), "return this.class", null, newContext());
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(otherImports).isNotSameAs(first);
+    }
+
+    @Test
+    public void shouldUseNewScriptInstancePerRun() {
+        TestContext first = newContext();
+        first.setVariable("greeting", "Hello");
+        TestContext second = newContext();
+        second.setVariable("greeting", "Hola");
+
+        String script = "return greeting + ' ' + context.getVariable('greeting')";
+
+        Assertions.assertThat((String) GroovyShellUtils.run(ic, script, null, first)).isEqualTo("Hello Hello");
+        Assertions.assertThat((String) GroovyShellUtils.run(ic, script, null, second)).isEqualTo("Hola Hola");
+    }
+
+    @Test
+    public void shouldDelegateToGivenInstance() {
+        StringBuilder delegate = new StringBuilder("delegate");
+
+        Assertions.assertThat((Integer) GroovyShellUtils.run(ic, delegate, "return length()", null, newContext())).isEqualTo(8);
+    }
+
+    @Test
+    public void shouldPreferTestVariableOverDelegateProperty() {
+        TestContext context = newContext();
+        context.setVariable("greeting", "Hello from variable");
+
+        Assertions.assertThat((String) GroovyShellUtils.run(ic, new Greeter(), "return greeting", null, context))
+                .isEqualTo("Hello from variable");
+        Assertions.assertThat((String) GroovyShellUtils.run(ic, new Greeter(), "return greeting", null, newContext()))
+                .isEqualTo("Hello from delegate");
+    }
+
+    private static TestContext newContext() {
+        return TestContextFactory.newInstance().getObject();
+    }
+
+    public static class Greeter {
+        public String getGreeting() {
+            return "Hello from delegate";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.groovy.dsl.actions;
+
+import com.consol.citrus.TestActionBuilder;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.actions.SleepAction;
+import groovy.lang.GroovyRuntimeException;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ActionsTest {
+
+    @Test
+    public void shouldCreateActionBuilder() {
+        TestActionBuilder<?> builder = Actions.ECHO.getActionBuilder("Hello");
+
+        Assertions.assertThat(builder).isInstanceOf(EchoAction.Builder.class);
+        Assertions.assertThat(((EchoAction.Builder) builder).build().getMessage()).isEqualTo("Hello");
+        Assertions.assertThat(Actions.ECHO.getActionBuilder("Hello again")).isNotSameAs(builder);
+    }
+
+    @Test
+    public void shouldFallbackToAssignableParameterTypes() {
+        TestActionBuilder<?> builder = Actions.lookup("sleep")
+                .orElseThrow(IllegalStateException::new)
+                .getActionBuilder(100L);
+
+        Assertions.assertThat(builder).isInstanceOf(SleepAction.Builder.class);
+    }
+
+    @Test
+    public void shouldFailOnUnknownSignature() {
+        Assertions.assertThatThrownBy(() -> Actions.ECHO.getActionBuilder(1, 2))
+                .isInstanceOf(GroovyRuntimeException.class);
+    }
+
+    @Test
+    public void shouldLookupCustomActionBuilder() {
+        Assertions.assertThat(Actions.lookup("greet")).isEmpty();
+
+        Actions.register("greet", GreetingActionBuilder.class);
+
+        Assertions.assertThat(Actions.lookup("greet")).isPresent();
+        Assertions.assertThat(Actions.lookup("greet").get().getActionBuilder("YAKS"))
+                .isInstanceOf(EchoAction.Builder.class);
+    }
+
+    public static class GreetingActionBuilder extends EchoAction.Builder {
+
+        public static EchoAction.Builder greet(String name) {
+            return echo("Hello " + name);
+        }
+    }
+}
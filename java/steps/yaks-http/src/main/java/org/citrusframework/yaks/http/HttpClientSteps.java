@@ -17,20 +17,22 @@
 
 package org.citrusframework.yaks.http;
 
-import javax.net.ssl.SSLContext;
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.http.actions.HttpClientActionBuilder;
 import com.consol.citrus.http.actions.HttpClientRequestActionBuilder;
 import com.consol.citrus.http.actions.HttpClientResponseActionBuilder;
@@ -45,15 +47,11 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustAllStrategy;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContexts;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import static com.consol.citrus.container.Wait.Builder.waitFor;
 import static com.consol.citrus.http.actions.HttpActionBuilder.http;
@@ -93,6 +91,8 @@ public class HttpClientSteps implements HttpSteps {
 
     private boolean forkMode = HttpSettings.getForkMode();
 
+    private HttpLoadResult loadResult;
+
     @Before
     public void before(Scenario scenario) {
         if (httpClient == null) {
@@ -117,6 +117,7 @@ public class HttpClientSteps implements HttpSteps {
         bodyValidationExpressions = new HashMap<>();
         outboundDictionary = null;
         inboundDictionary = null;
+        loadResult = null;
     }
 
     @Given("^HTTP client \"([^\"\\s]+)\"$")
@@ -131,7 +132,7 @@ public class HttpClientSteps implements HttpSteps {
     @Given("^(?:URL|url): ([^\\s]+)$")
     public void setUrl(String url) {
         if (url.startsWith("https")) {
-            httpClient.getEndpointConfiguration().setRequestFactory(sslRequestFactory());
+            httpClient.getEndpointConfiguration().setRequestFactory(HttpClientSupport.sslRequestFactory());
         }
 
         this.requestUrl = url;
@@ -300,6 +301,121 @@ public class HttpClientSteps implements HttpSteps {
         responseHeaders.clear();
     }
 
+    @When("^send (\\d+) (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) requests? to ([^\"\\s]+) with concurrency (\\d+)$")
+    public void sendLoadRequests(long requests, String method, String path, int concurrency) {
+        runLoad(method, path, concurrency, generator -> generator.run(requests, concurrency));
+    }
+
+    @When("^run (GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|TRACE) ([^\"\\s]+) for (\\d+) seconds? at (\\d+) (?:rps|requests per second)(?: with concurrency (\\d+))?$")
+    public void runLoadRequests(String method, String path, long seconds, int rate, Integer concurrency) {
+        int workers = Optional.ofNullable(concurrency).orElseGet(HttpSettings::getLoadConcurrency);
+        HttpLoadGenerator.validate("rate", rate);
+        runLoad(method, path, workers, generator -> generator.run(Duration.ofSeconds(seconds), rate, workers));
+    }
+
+    @Then("^(?:expect|verify) HTTP latency (p\\d+(?:\\.\\d+)?|mean|max) (?:is )?(?:below|less than) (\\d+)(?: ms| milliseconds)$")
+    public void verifyLatency(String metric, long maxLatency) {
+        HttpLoadResult result = getLoadResult();
+
+        double latency;
+        if ("max".equals(metric)) {
+            latency = result.getMaxLatency();
+        } else if ("mean".equals(metric)) {
+            latency = result.getMeanLatency();
+        } else {
+            latency = result.getLatency(Double.parseDouble(metric.substring(1)));
+        }
+
+        if (latency >= maxLatency) {
+            throw new ValidationException(String.format("Http latency %s of %.3f ms exceeds limit of %d ms - %s",
+                    metric, latency, maxLatency, result));
+        }
+    }
+
+    @Then("^(?:expect|verify) HTTP error rate (?:is )?(?:below|less than) (\\d+(?:\\.\\d+)?)(?: %| percent|%)$")
+    public void verifyErrorRate(double maxErrorRate) {
+        HttpLoadResult result = getLoadResult();
+
+        if (result.getErrorRate() >= maxErrorRate) {
+            throw new ValidationException(String.format("Http error rate of %.2f%% exceeds limit of %s%% - %s",
+                    result.getErrorRate(), maxErrorRate, result));
+        }
+    }
+
+    /**
+     * Runs Http load generator on given request path. Uses current request headers and body for all requests.
+     * Load requests use a separate connection pool sized to the given number of concurrent workers.
+     * @param method
+     * @param path
+     * @param concurrency
+     * @param load
+     */
+    private void runLoad(String method, String path, int concurrency, Function<HttpLoadGenerator, HttpLoadResult> load) {
+        // validate before the connection pool is sized with the concurrency
+        HttpLoadGenerator.validate("concurrency", concurrency);
+
+        String body = requestBody;
+        Map<String, String> headers = new HashMap<>(requestHeaders);
+        Map<String, String> params = new HashMap<>(requestParams);
+
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(context.replaceDynamicContentInString(getLoadRequestUrl(path)));
+                params.forEach((name, value) -> uri.queryParam(context.replaceDynamicContentInString(name), context.replaceDynamicContentInString(value)));
+
+                HttpComponentsClientHttpRequestFactory requestFactory = HttpClientSupport.requestFactory(concurrency);
+                requestFactory.setConnectTimeout((int) timeout);
+                requestFactory.setReadTimeout((int) timeout);
+
+                try {
+                    HttpLoadGenerator generator = new HttpLoadGenerator(requestFactory, HttpMethod.valueOf(method), uri.build().toUri());
+                    headers.forEach((name, value) -> generator.header(name, context.replaceDynamicContentInString(value)));
+                    if (body != null) {
+                        generator.body(context.replaceDynamicContentInString(body));
+                    }
+
+                    loadResult = load.apply(generator);
+                } finally {
+                    try {
+                        requestFactory.destroy();
+                    } catch (Exception e) {
+                        throw new CitrusRuntimeException("Failed to close Http load connection pool", e);
+                    }
+                }
+            }
+        });
+
+        requestBody = null;
+        requestHeaders.clear();
+        requestParams.clear();
+    }
+
+    /**
+     * Gets the result of the last Http load run.
+     * @return
+     */
+    private HttpLoadResult getLoadResult() {
+        if (loadResult == null) {
+            throw new CitrusRuntimeException("Missing Http load result - please run Http load requests first");
+        }
+
+        return loadResult;
+    }
+
+    /**
+     * Gets request URL for load requests. Falls back to the request URL configured on the Http client.
+     * @param path
+     * @return
+     */
+    private String getLoadRequestUrl(String path) {
+        if (!StringUtils.hasText(requestUrl) && StringUtils.hasText(httpClient.getEndpointConfiguration().getRequestUrl())) {
+            requestUrl = httpClient.getEndpointConfiguration().getRequestUrl();
+        }
+
+        return getRequestUrl(path);
+    }
+
     /**
      * Sends client request.
      * @param request
@@ -365,38 +481,6 @@ public class HttpClientSteps implements HttpSteps {
         runner.run(responseBuilder);
     }
 
-    /**
-     * Get secure request factory.
-     * @return
-     */
-    private HttpComponentsClientHttpRequestFactory sslRequestFactory() {
-        return new HttpComponentsClientHttpRequestFactory(sslClient());
-    }
-
-    /**
-     * Get secure http client implementation with trust all strategy and noop host name verifier.
-     * @return
-     */
-    private org.apache.http.client.HttpClient sslClient() {
-        try {
-            SSLContext sslcontext = SSLContexts
-                    .custom()
-                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
-                    .build();
-
-            SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
-                    sslcontext, NoopHostnameVerifier.INSTANCE);
-
-            return HttpClients
-                    .custom()
-                    .setSSLSocketFactory(sslSocketFactory)
-                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
-                    .build();
-        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
-            throw new CitrusRuntimeException("Failed to create http client for ssl connection", e);
-        }
-    }
-
     /**
      * Helper method concatenating base request URL and given relative URL resource path. In case given parameter us a full qualified
      * URL itself use this URL as a result. Adds error handling in case base request URL is not set properly and avoids duplicate path
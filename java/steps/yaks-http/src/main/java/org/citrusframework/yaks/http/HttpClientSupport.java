@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Provides a shared secure Http client with trust all strategy and noop host name verifier. The client uses
+ * a single SSL context and a pooling connection manager so TLS sessions and keep-alive connections are reused
+ * across scenarios and step classes.
+ *
+ * @author Christoph Deppisch
+ */
+public final class HttpClientSupport {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(HttpClientSupport.class);
+
+    private static CloseableHttpClient sslClient;
+    private static HttpComponentsClientHttpRequestFactory sslRequestFactory;
+    private static boolean closed;
+
+    private HttpClientSupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Get shared request factory for secure Http connections.
+     * @return
+     */
+    public static synchronized HttpComponentsClientHttpRequestFactory sslRequestFactory() {
+        verifyNotClosed();
+
+        if (sslRequestFactory == null) {
+            sslRequestFactory = new HttpComponentsClientHttpRequestFactory(sslClient());
+        }
+
+        return sslRequestFactory;
+    }
+
+    /**
+     * Get shared secure Http client implementation with trust all strategy and noop host name verifier.
+     * Client is created lazily on first access and closed on JVM shutdown. Access after shutdown is rejected.
+     * @return
+     */
+    public static synchronized org.apache.http.client.HttpClient sslClient() {
+        verifyNotClosed();
+
+        if (sslClient == null) {
+            sslClient = createSslClient(HttpSettings.getClientMaxConnections(), HttpSettings.getClientMaxConnectionsPerRoute());
+            Runtime.getRuntime().addShutdownHook(new Thread(HttpClientSupport::close));
+        }
+
+        return sslClient;
+    }
+
+    /**
+     * Creates new request factory with its own connection pool sized for given number of concurrent connections. Supports
+     * both plain and secure connections. Caller is responsible to destroy the factory in order to close the pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public static HttpComponentsClientHttpRequestFactory requestFactory(int maxConnections) {
+        return new HttpComponentsClientHttpRequestFactory(createSslClient(maxConnections, maxConnections));
+    }
+
+    private static CloseableHttpClient createSslClient(int maxConnections, int maxConnectionsPerRoute) {
+        try {
+            SSLContext sslcontext = SSLContexts
+                    .custom()
+                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                    .build();
+
+            SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+                    sslcontext, NoopHostnameVerifier.INSTANCE);
+
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https", sslSocketFactory)
+                            .build(),
+                    null, null, null, HttpSettings.getClientConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+            return HttpClients
+                    .custom()
+                    .setConnectionManager(connectionManager)
+                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                    .disableConnectionState()
+                    .evictExpiredConnections()
+                    .build();
+        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
+            throw new CitrusRuntimeException("Failed to create http client for ssl connection", e);
+        }
+    }
+
+    private static void verifyNotClosed() {
+        if (closed) {
+            throw new CitrusRuntimeException("Shared http client for ssl connection has already been closed on shutdown");
+        }
+    }
+
+    private static synchronized void close() {
+        closed = true;
+
+        if (sslClient != null) {
+            try {
+                sslClient.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close shared http client for ssl connection", e);
+            }
+        }
+    }
+}
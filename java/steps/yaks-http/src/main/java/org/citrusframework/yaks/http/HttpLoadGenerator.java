@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Generates Http load on a single URL with a fixed number of worker threads. Either sends a fixed number of requests
+ * as fast as possible or sends requests at a constant rate for a given duration. In constant rate mode the latency is measured
+ * from the time the request was scheduled so slow responses do not hide queueing delays. Requests that fail with an exception
+ * or an error status code (>= 400) are counted as errors.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpLoadGenerator {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(HttpLoadGenerator.class);
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final HttpMethod method;
+    private final URI uri;
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private byte[] body;
+
+    public HttpLoadGenerator(ClientHttpRequestFactory requestFactory, HttpMethod method, URI uri) {
+        this.requestFactory = requestFactory;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /**
+     * Adds request header sent with each request.
+     * @param name
+     * @param value
+     * @return
+     */
+    public HttpLoadGenerator header(String name, String value) {
+        headers.add(name, value);
+        return this;
+    }
+
+    /**
+     * Sets request body sent with each request.
+     * @param body
+     * @return
+     */
+    public HttpLoadGenerator body(String body) {
+        this.body = body != null ? body.getBytes(StandardCharsets.UTF_8) : null;
+        return this;
+    }
+
+    /**
+     * Sends given number of requests using given number of concurrent workers.
+     * @param requests
+     * @param concurrency
+     * @return
+     */
+    public HttpLoadResult run(long requests, int concurrency) {
+        validate("concurrency", concurrency);
+        LOG.info(String.format("Sending %d %s requests to %s with concurrency %d", requests, method, uri, concurrency));
+
+        HttpLoadResult result = new HttpLoadResult();
+        AtomicLong remaining = new AtomicLong(requests);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, new WorkerThreadFactory());
+
+        long started = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    send(System.nanoTime(), result);
+                }
+            });
+        }
+
+        awaitCompletion(workers);
+        result.setDuration(System.nanoTime() - started);
+
+        LOG.info("Http load result: " + result);
+        return result;
+    }
+
+    /**
+     * Sends requests at given constant rate per second for given duration using given number of concurrent workers.
+     * @param duration
+     * @param rate
+     * @param concurrency
+     * @return
+     */
+    public HttpLoadResult run(Duration duration, int rate, int concurrency) {
+        validate("rate", rate);
+        validate("concurrency", concurrency);
+        LOG.info(String.format("Sending %s requests to %s for %d seconds at %d rps with concurrency %d",
+                method, uri, duration.getSeconds(), rate, concurrency));
+
+        HttpLoadResult result = new HttpLoadResult();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, new WorkerThreadFactory());
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = duration.getSeconds() * rate;
+        long started = System.nanoTime();
+        try {
+            for (long i = 0; i < requests; i++) {
+                long scheduled = started + i * interval;
+
+                long delay;
+                while ((delay = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(delay);
+
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new CitrusRuntimeException("Interrupted while generating Http load");
+                    }
+                }
+
+                workers.execute(() -> send(scheduled, result));
+            }
+        } catch (CitrusRuntimeException e) {
+            workers.shutdownNow();
+            throw e;
+        }
+
+        awaitCompletion(workers);
+        result.setDuration(System.nanoTime() - started);
+
+        LOG.info("Http load result: " + result);
+        return result;
+    }
+
+    /**
+     * Sends single request and records the result.
+     * @param startNanos
+     * @param result
+     */
+    private void send(long startNanos, HttpLoadResult result) {
+        try {
+            ClientHttpRequest request = requestFactory.createRequest(uri, method);
+            request.getHeaders().addAll(headers);
+
+            if (body != null) {
+                request.getBody().write(body);
+            }
+
+            try (ClientHttpResponse response = request.execute()) {
+                StreamUtils.drain(response.getBody());
+                result.record(startNanos, response.getRawStatusCode() >= 400);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Http load request failed", e);
+            result.record(startNanos, true);
+        }
+    }
+
+    /**
+     * Makes sure that given load setting is a positive number.
+     * @param name
+     * @param value
+     */
+    static void validate(String name, int value) {
+        if (value <= 0) {
+            throw new CitrusRuntimeException(String.format("Invalid Http load %s '%d' - must be greater than zero", name, value));
+        }
+    }
+
+    private void awaitCompletion(ExecutorService workers) {
+        workers.shutdown();
+        try {
+            while (!workers.awaitTermination(1L, TimeUnit.SECONDS)) {
+                LOG.debug("Waiting for Http load requests to complete");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for Http load requests to complete", e);
+        }
+    }
+
+    /**
+     * Creates daemon worker threads so pending requests never block the JVM shutdown.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "yaks-http-load-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a Http load run. Records per request latency in a histogram with microsecond resolution
+ * and counts failed requests. Latency values are reported in milliseconds.
+ *
+ * @author Christoph Deppisch
+ */
+public class HttpLoadResult {
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile long durationNanos;
+
+    /**
+     * Record request that has been started at given time in nanoseconds.
+     * @param startNanos
+     * @param error
+     */
+    void record(long startNanos, boolean error) {
+        latency.recordValue(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos)));
+        requests.increment();
+
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Sets the overall duration of the load run.
+     * @param durationNanos
+     */
+    void setDuration(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Gets the latency in milliseconds at given percentile (e.g. 99.9).
+     * @param percentile
+     * @return
+     */
+    public double getLatency(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000D;
+    }
+
+    /**
+     * Gets the mean latency in milliseconds.
+     * @return
+     */
+    public double getMeanLatency() {
+        return latency.getMean() / 1000D;
+    }
+
+    /**
+     * Gets the max latency in milliseconds.
+     * @return
+     */
+    public double getMaxLatency() {
+        return latency.getMaxValue() / 1000D;
+    }
+
+    /**
+     * Gets the total number of requests.
+     * @return
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Gets the number of failed requests.
+     * @return
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Gets the percentage of failed requests.
+     * @return
+     */
+    public double getErrorRate() {
+        long total = getRequests();
+        return total > 0 ? getErrors() * 100D / total : 0D;
+    }
+
+    /**
+     * Gets the achieved throughput in requests per second.
+     * @return
+     */
+    public double getThroughput() {
+        return durationNanos > 0 ? getRequests() * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos : 0D;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, errors=%d (%.2f%%), throughput=%.1f rps, " +
+                        "latency p50=%.3f ms, p90=%.3f ms, p99=%.3f ms, max=%.3f ms, mean=%.3f ms",
+                getRequests(), getErrors(), getErrorRate(), getThroughput(),
+                getLatency(50), getLatency(90), getLatency(99), getMaxLatency(), getMeanLatency());
+    }
+}
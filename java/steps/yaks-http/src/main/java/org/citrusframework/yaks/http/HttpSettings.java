@@ -53,6 +53,22 @@ public class HttpSettings {
     private static final String SECURE_KEYSTORE_PASSWORD_ENV = HTTP_ENV_PREFIX + "SECURE_KEYSTORE_PASSWORD";
     private static final String SECURE_KEYSTORE_PASSWORD_DEFAULT = "secret";
 
+    private static final String CLIENT_MAX_CONNECTIONS_PROPERTY = HTTP_PROPERTY_PREFIX + "client.max.connections";
+    private static final String CLIENT_MAX_CONNECTIONS_ENV = HTTP_ENV_PREFIX + "CLIENT_MAX_CONNECTIONS";
+    private static final String CLIENT_MAX_CONNECTIONS_DEFAULT = "100";
+
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_PROPERTY = HTTP_PROPERTY_PREFIX + "client.max.connections.per.route";
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV = HTTP_ENV_PREFIX + "CLIENT_MAX_CONNECTIONS_PER_ROUTE";
+    private static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT = "20";
+
+    private static final String CLIENT_CONNECTION_TTL_PROPERTY = HTTP_PROPERTY_PREFIX + "client.connection.ttl";
+    private static final String CLIENT_CONNECTION_TTL_ENV = HTTP_ENV_PREFIX + "CLIENT_CONNECTION_TTL";
+    private static final String CLIENT_CONNECTION_TTL_DEFAULT = "60000";
+
+    private static final String LOAD_CONCURRENCY_PROPERTY = HTTP_PROPERTY_PREFIX + "load.concurrency";
+    private static final String LOAD_CONCURRENCY_ENV = HTTP_ENV_PREFIX + "LOAD_CONCURRENCY";
+    private static final String LOAD_CONCURRENCY_DEFAULT = "50";
+
     private HttpSettings() {
         // prevent instantiation of utility class
     }
@@ -121,4 +137,43 @@ public class HttpSettings {
                 System.getenv(SECURE_KEYSTORE_PASSWORD_ENV) != null ? System.getenv(SECURE_KEYSTORE_PASSWORD_ENV) :
                         SECURE_KEYSTORE_PASSWORD_DEFAULT);
     }
+
+    /**
+     * Maximum number of pooled connections in the shared secure Http client.
+     * @return
+     */
+    public static int getClientMaxConnections() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONNECTIONS_PROPERTY,
+                System.getenv(CLIENT_MAX_CONNECTIONS_ENV) != null ? System.getenv(CLIENT_MAX_CONNECTIONS_ENV) :
+                        CLIENT_MAX_CONNECTIONS_DEFAULT));
+    }
+
+    /**
+     * Maximum number of pooled connections per route in the shared secure Http client.
+     * @return
+     */
+    public static int getClientMaxConnectionsPerRoute() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONNECTIONS_PER_ROUTE_PROPERTY,
+                System.getenv(CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV) != null ? System.getenv(CLIENT_MAX_CONNECTIONS_PER_ROUTE_ENV) :
+                        CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT));
+    }
+
+    /**
+     * Time to live in milliseconds for pooled keep-alive connections in the shared secure Http client.
+     * @return
+     */
+    public static long getClientConnectionTimeToLive() {
+        return Long.parseLong(System.getProperty(CLIENT_CONNECTION_TTL_PROPERTY,
+                System.getenv(CLIENT_CONNECTION_TTL_ENV) != null ? System.getenv(CLIENT_CONNECTION_TTL_ENV) :
+                        CLIENT_CONNECTION_TTL_DEFAULT));
+    }
+
+    /**
+     * Default number of concurrent workers when generating Http load at a constant rate.
+     * @return
+     */
+    public static int getLoadConcurrency() {
+        return Integer.parseInt(System.getProperty(LOAD_CONCURRENCY_PROPERTY,
+                System.getenv(LOAD_CONCURRENCY_ENV) != null ? System.getenv(LOAD_CONCURRENCY_ENV) : LOAD_CONCURRENCY_DEFAULT));
+    }
 }
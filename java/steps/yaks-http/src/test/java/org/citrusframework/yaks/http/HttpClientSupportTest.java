@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HttpClientSupportTest {
+
+    @Test
+    public void shouldShareSslClient() {
+        HttpComponentsClientHttpRequestFactory requestFactory = HttpClientSupport.sslRequestFactory();
+
+        Assertions.assertThat(HttpClientSupport.sslRequestFactory()).isSameAs(requestFactory);
+        Assertions.assertThat(HttpClientSupport.sslClient()).isSameAs(HttpClientSupport.sslClient());
+        Assertions.assertThat(requestFactory.getHttpClient()).isSameAs(HttpClientSupport.sslClient());
+    }
+
+    @Test
+    public void shouldCreateSeparateRequestFactory() throws Exception {
+        HttpComponentsClientHttpRequestFactory requestFactory = HttpClientSupport.requestFactory(5);
+
+        try {
+            Assertions.assertThat(requestFactory).isNotSameAs(HttpClientSupport.sslRequestFactory());
+            Assertions.assertThat(requestFactory.getHttpClient()).isNotSameAs(HttpClientSupport.sslClient());
+        } finally {
+            requestFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http;
+
+import java.net.URI;
+import java.time.Duration;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HttpLoadGeneratorTest {
+
+    private final HttpLoadGenerator generator = new HttpLoadGenerator(new SimpleClientHttpRequestFactory(),
+            HttpMethod.GET, URI.create("http://localhost:8080/test"));
+
+    @Test
+    public void shouldRejectZeroConcurrency() {
+        Assertions.assertThatExceptionOfType(CitrusRuntimeException.class)
+                .isThrownBy(() -> generator.run(10L, 0))
+                .withMessageContaining("concurrency '0'");
+
+        Assertions.assertThatExceptionOfType(CitrusRuntimeException.class)
+                .isThrownBy(() -> generator.run(Duration.ofSeconds(1L), 10, 0))
+                .withMessageContaining("concurrency '0'");
+    }
+
+    @Test
+    public void shouldRejectZeroRate() {
+        Assertions.assertThatExceptionOfType(CitrusRuntimeException.class)
+                .isThrownBy(() -> generator.run(Duration.ofSeconds(1L), 0, 1))
+                .withMessageContaining("rate '0'");
+    }
+}
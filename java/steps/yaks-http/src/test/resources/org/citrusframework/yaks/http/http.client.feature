@@ -129,3 +129,14 @@ Date: @ignore@
       | $.task      | Sample task |
       | $.completed | 0 |
     And receive HTTP 200 OK
+
+  Scenario: Load requests
+    When send 50 DELETE requests to /todo/1 with concurrency 5
+    Then verify HTTP latency p99 is below 5000 ms
+    And verify HTTP latency max is below 5000 ms
+    And verify HTTP error rate is below 1%
+
+  Scenario: Load requests at constant rate
+    When run DELETE /todo/1 for 2 seconds at 20 rps with concurrency 5
+    Then verify HTTP latency p50 is below 5000 ms
+    And verify HTTP error rate is below 1%
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader that reads one record at a time. Supports quoted fields with escaped quotes and line breaks.
+ * Empty fields that are not quoted are read as null values. The reader never reads beyond the end of the current record,
+ * so the remaining data can be handed over to another consumer.
+ *
+ * @author Christoph Deppisch
+ */
+final class CsvRecordReader {
+
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char delimiter;
+
+    private boolean eof;
+
+    CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads next record. Blank lines are skipped.
+     * @return record fields or null when the end of the data has been reached.
+     * @throws IOException
+     */
+    List<String> next() throws IOException {
+        if (eof) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        boolean closingQuote = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+
+            if (quoted) {
+                if (ch == QUOTE) {
+                    quoted = false;
+                    closingQuote = true;
+                } else {
+                    field.append(ch);
+                }
+                continue;
+            }
+
+            if (ch == QUOTE) {
+                if (closingQuote) {
+                    field.append(QUOTE);
+                    quoted = true;
+                } else if (field.length() == 0) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else {
+                    field.append(ch);
+                }
+                closingQuote = false;
+                continue;
+            }
+
+            closingQuote = false;
+            if (ch == delimiter) {
+                fields.add(value(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (ch == '\n') {
+                if (fields.isEmpty() && field.length() == 0 && !wasQuoted) {
+                    continue;
+                }
+
+                fields.add(value(field, wasQuoted));
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+
+        eof = true;
+        if (fields.isEmpty() && field.length() == 0 && !wasQuoted) {
+            return null;
+        }
+
+        fields.add(value(field, wasQuoted));
+        return fields;
+    }
+
+    private static String value(StringBuilder field, boolean quoted) {
+        if (field.length() == 0 && !quoted) {
+            return null;
+        }
+
+        return field.toString();
+    }
+}
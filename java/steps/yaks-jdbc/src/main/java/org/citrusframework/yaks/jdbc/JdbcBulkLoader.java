@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Loads CSV or JSON data files into a database table. Data is streamed from the file so large data sets do not have to fit into memory.
+ * CSV files need a header line with the column names. JSON files hold an array of objects or one object per line where the
+ * object keys are the column names.
+ *
+ * Uses the PostgreSQL COPY protocol for CSV data when available and JDBC batch inserts otherwise.
+ *
+ * @author Christoph Deppisch
+ */
+public final class JdbcBulkLoader {
+
+    private static final boolean POSTGRESQL_DRIVER_PRESENT = ClassUtils.isPresent("org.postgresql.copy.CopyManager", JdbcBulkLoader.class.getClassLoader());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JdbcBulkLoader() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Loads given data file into the table. Data format is derived from the file extension (.csv or .json).
+     * @param dataSource
+     * @param table
+     * @param data
+     * @param batchSize
+     * @param useCopy
+     * @return
+     */
+    public static JdbcBulkResult load(DataSource dataSource, String table, Resource data, int batchSize, boolean useCopy) {
+        int batch = Math.max(1, batchSize);
+        String fileName = data.getFilename() != null ? data.getFilename().toLowerCase() : "";
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Reader reader = new BufferedReader(new InputStreamReader(data.getInputStream(), StandardCharsets.UTF_8))) {
+            if (fileName.endsWith(".json")) {
+                long rows = loadJson(connection, table, reader, batch);
+                return new JdbcBulkResult(rows, System.nanoTime() - start, false);
+            } else if (fileName.endsWith(".csv")) {
+                CsvRecordReader csv = new CsvRecordReader(reader, ',');
+                List<String> columns = csv.next();
+                if (columns == null) {
+                    return new JdbcBulkResult(0L, System.nanoTime() - start, false);
+                }
+
+                if (useCopy && POSTGRESQL_DRIVER_PRESENT && PostgreSQLCopySupport.isSupported(connection)) {
+                    long rows = PostgreSQLCopySupport.copy(connection, table, columns, reader);
+                    return new JdbcBulkResult(rows, System.nanoTime() - start, true);
+                }
+
+                long rows = loadCsv(connection, table, columns, csv, batch);
+                return new JdbcBulkResult(rows, System.nanoTime() - start, false);
+            } else {
+                throw new CitrusRuntimeException(String.format("Unsupported data file '%s' - please use .csv or .json files", data.getFilename()));
+            }
+        } catch (SQLException | IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to load data %s into table %s", data.getFilename(), table), e);
+        }
+    }
+
+    private static long loadCsv(Connection connection, String table, List<String> columns, CsvRecordReader csv, int batchSize) throws SQLException, IOException {
+        return insert(connection, table, columns, batchSize, statement -> {
+            List<String> record = csv.next();
+            if (record == null) {
+                return false;
+            }
+
+            if (record.size() != columns.size()) {
+                throw new CitrusRuntimeException(String.format("Invalid CSV record - expected %d fields but got %d", columns.size(), record.size()));
+            }
+
+            for (int i = 0; i < record.size(); i++) {
+                statement.set(i, record.get(i));
+            }
+            return true;
+        });
+    }
+
+    private static long loadJson(Connection connection, String table, Reader reader, int batchSize) throws SQLException, IOException {
+        MappingIterator<Map<String, Object>> objects = MAPPER.readerFor(Map.class).readValues(reader);
+        if (!objects.hasNext()) {
+            return 0L;
+        }
+
+        Map<String, Object> first = objects.next();
+        List<String> columns = new ArrayList<>(first.keySet());
+        List<Map<String, Object>> pending = new ArrayList<>(Collections.singletonList(first));
+
+        return insert(connection, table, columns, batchSize, statement -> {
+            Map<String, Object> object;
+            if (!pending.isEmpty()) {
+                object = pending.remove(0);
+            } else if (objects.hasNext()) {
+                object = objects.next();
+            } else {
+                return false;
+            }
+
+            for (int i = 0; i < columns.size(); i++) {
+                statement.set(i, toValue(object.get(columns.get(i))));
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Runs batch inserts in a single transaction. Values are converted to the column types reported by the database.
+     * @param connection
+     * @param table
+     * @param columns
+     * @param batchSize
+     * @param rows supplies the next row values and returns false when there are no more rows.
+     * @return number of rows inserted.
+     * @throws SQLException
+     * @throws IOException
+     */
+    private static long insert(Connection connection, String table, List<String> columns, int batchSize, RowSupplier rows) throws SQLException, IOException {
+        String columnList = String.join(", ", columns);
+        int[] columnTypes = getColumnTypes(connection, table, columnList);
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        long count = 0L;
+        try (PreparedStatement statement = connection.prepareStatement(String.format("INSERT INTO %s (%s) VALUES (%s)",
+                table, columnList, String.join(", ", Collections.nCopies(columns.size(), "?"))))) {
+            RowValues values = (index, value) -> {
+                if (value == null) {
+                    statement.setNull(index + 1, columnTypes[index]);
+                } else {
+                    statement.setObject(index + 1, value, columnTypes[index]);
+                }
+            };
+
+            while (rows.next(values)) {
+                statement.addBatch();
+                count++;
+
+                if (count % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+
+            if (count % batchSize != 0) {
+                statement.executeBatch();
+            }
+
+            connection.commit();
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        return count;
+    }
+
+    private static int[] getColumnTypes(Connection connection, String table, String columnList) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("SELECT %s FROM %s WHERE 1 = 0", columnList, table))) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int[] types = new int[metaData.getColumnCount()];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = metaData.getColumnType(i + 1);
+            }
+            return types;
+        }
+    }
+
+    private static Object toValue(Object value) throws JsonProcessingException {
+        if (value instanceof Map || value instanceof List) {
+            return MAPPER.writeValueAsString(value);
+        }
+
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface RowValues {
+        void set(int index, Object value) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowSupplier {
+        boolean next(RowValues values) throws SQLException, IOException;
+    }
+}
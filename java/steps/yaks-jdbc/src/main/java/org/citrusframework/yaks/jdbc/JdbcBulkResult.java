@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a bulk data load holding the number of rows loaded and the overall duration.
+ *
+ * @author Christoph Deppisch
+ */
+public class JdbcBulkResult {
+
+    private final long rows;
+    private final long durationNanos;
+    private final boolean copy;
+
+    public JdbcBulkResult(long rows, long durationNanos, boolean copy) {
+        this.rows = rows;
+        this.durationNanos = durationNanos;
+        this.copy = copy;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the overall duration in milliseconds.
+     * @return
+     */
+    public long getDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    /**
+     * Gets the number of rows loaded per second.
+     * @return
+     */
+    public double getRowsPerSecond() {
+        if (durationNanos <= 0L) {
+            return 0D;
+        }
+
+        return rows / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * True when the data has been loaded via PostgreSQL COPY, false for JDBC batch inserts.
+     * @return
+     */
+    public boolean isCopy() {
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows in %d ms (%.1f rows/s) via %s", rows, getDuration(), getRowsPerSecond(), copy ? "COPY" : "batch insert");
+    }
+}
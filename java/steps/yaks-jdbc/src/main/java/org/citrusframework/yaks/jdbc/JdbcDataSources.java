@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates pooled data sources with prepared statement caching. Pools created via {@link #pooled(String, String, String, String, Map)}
+ * are shared by all scenarios using the same connection settings and get closed on JVM shutdown.
+ *
+ * @author Christoph Deppisch
+ */
+public final class JdbcDataSources {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcDataSources.class);
+
+    /** Connection pool options */
+    public static final String POOL_SIZE = "poolSize";
+    public static final String IDLE_TIMEOUT = "idleTimeout";
+    public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+
+    private static final Map<List<Object>, BasicDataSource> POOLS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(JdbcDataSources::closeAll, "yaks-jdbc-shutdown"));
+    }
+
+    private JdbcDataSources() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets shared pooled data source for given connection settings. Creates a new pool when there is no pool for these settings yet.
+     * @param driver
+     * @param url
+     * @param username
+     * @param password
+     * @param options pool options such as pool size, idle timeout and prepared statement cache size.
+     * @return
+     */
+    public static BasicDataSource pooled(String driver, String url, String username, String password, Map<String, String> options) {
+        List<Object> key = Arrays.asList(driver, url, username, password,
+                options.get(POOL_SIZE), options.get(IDLE_TIMEOUT), options.get(STATEMENT_CACHE_SIZE));
+        return POOLS.computeIfAbsent(key, k -> create(driver, url, username, password, options));
+    }
+
+    /**
+     * Creates new pooled data source for given connection settings. Caller is responsible for closing the data source.
+     * @param driver
+     * @param url
+     * @param username
+     * @param password
+     * @param options pool options such as pool size, idle timeout and prepared statement cache size.
+     * @return
+     */
+    public static BasicDataSource create(String driver, String url, String username, String password, Map<String, String> options) {
+        int poolSize = Integer.parseInt(options.getOrDefault(POOL_SIZE, String.valueOf(JdbcSettings.getPoolSize())));
+        long idleTimeout = Long.parseLong(options.getOrDefault(IDLE_TIMEOUT, String.valueOf(JdbcSettings.getPoolIdleTimeout())));
+        int statementCacheSize = Integer.parseInt(options.getOrDefault(STATEMENT_CACHE_SIZE, String.valueOf(JdbcSettings.getStatementCacheSize())));
+
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setDriverClassName(driver);
+        dataSource.setUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+
+        dataSource.setMaxTotal(poolSize);
+        dataSource.setMaxIdle(poolSize);
+        dataSource.setMinIdle(0);
+        dataSource.setTestOnBorrow(true);
+        dataSource.setMinEvictableIdleTimeMillis(idleTimeout);
+        dataSource.setTimeBetweenEvictionRunsMillis(Math.max(1000L, idleTimeout / 2));
+
+        if (statementCacheSize > 0) {
+            dataSource.setPoolPreparedStatements(true);
+            dataSource.setMaxOpenPreparedStatements(statementCacheSize);
+        }
+
+        return dataSource;
+    }
+
+    private static void closeAll() {
+        POOLS.values().forEach(dataSource -> {
+            try {
+                dataSource.close();
+            } catch (SQLException e) {
+                LOG.warn(String.format("Failed to close data source %s", dataSource.getUrl()), e);
+            }
+        });
+        POOLS.clear();
+    }
+}
@@ -33,6 +33,38 @@ public class JdbcSettings {
     private static final String DELAY_BETWEEN_ATTEMPTS_ENV = JDBC_ENV_PREFIX + "DELAY_BETWEEN_ATTEMPTS";
     private static final String DELAY_BETWEEN_ATTEMPTS_DEFAULT = "2000";
 
+    private static final String POOLED_PROPERTY = JDBC_PROPERTY_PREFIX + "pooled";
+    private static final String POOLED_ENV = JDBC_ENV_PREFIX + "POOLED";
+    private static final String POOLED_DEFAULT = "false";
+
+    private static final String POOL_SIZE_PROPERTY = JDBC_PROPERTY_PREFIX + "pool.size";
+    private static final String POOL_SIZE_ENV = JDBC_ENV_PREFIX + "POOL_SIZE";
+    private static final String POOL_SIZE_DEFAULT = "10";
+
+    private static final String POOL_IDLE_TIMEOUT_PROPERTY = JDBC_PROPERTY_PREFIX + "pool.idle.timeout";
+    private static final String POOL_IDLE_TIMEOUT_ENV = JDBC_ENV_PREFIX + "POOL_IDLE_TIMEOUT";
+    private static final String POOL_IDLE_TIMEOUT_DEFAULT = "60000";
+
+    private static final String STATEMENT_CACHE_SIZE_PROPERTY = JDBC_PROPERTY_PREFIX + "statement.cache.size";
+    private static final String STATEMENT_CACHE_SIZE_ENV = JDBC_ENV_PREFIX + "STATEMENT_CACHE_SIZE";
+    private static final String STATEMENT_CACHE_SIZE_DEFAULT = "50";
+
+    private static final String BATCH_SIZE_PROPERTY = JDBC_PROPERTY_PREFIX + "batch.size";
+    private static final String BATCH_SIZE_ENV = JDBC_ENV_PREFIX + "BATCH_SIZE";
+    private static final String BATCH_SIZE_DEFAULT = "1000";
+
+    private static final String USE_COPY_PROPERTY = JDBC_PROPERTY_PREFIX + "use.copy";
+    private static final String USE_COPY_ENV = JDBC_ENV_PREFIX + "USE_COPY";
+    private static final String USE_COPY_DEFAULT = "true";
+
+    private static final String FETCH_SIZE_PROPERTY = JDBC_PROPERTY_PREFIX + "fetch.size";
+    private static final String FETCH_SIZE_ENV = JDBC_ENV_PREFIX + "FETCH_SIZE";
+    private static final String FETCH_SIZE_DEFAULT = "1000";
+
+    private static final String WAIT_TIMEOUT_PROPERTY = JDBC_PROPERTY_PREFIX + "wait.timeout";
+    private static final String WAIT_TIMEOUT_ENV = JDBC_ENV_PREFIX + "WAIT_TIMEOUT";
+    private static final String WAIT_TIMEOUT_DEFAULT = "60000";
+
     private JdbcSettings() {
         // prevent instantiation of utility class
     }
@@ -54,4 +86,76 @@ public class JdbcSettings {
         return Long.parseLong(System.getProperty(DELAY_BETWEEN_ATTEMPTS_PROPERTY,
                 System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) != null ? System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) : DELAY_BETWEEN_ATTEMPTS_DEFAULT));
     }
+
+    /**
+     * When set to true database connections configured in the test use a connection pool instead of a single connection.
+     * @return
+     */
+    public static boolean isPooled() {
+        return Boolean.parseBoolean(System.getProperty(POOLED_PROPERTY,
+                System.getenv(POOLED_ENV) != null ? System.getenv(POOLED_ENV) : POOLED_DEFAULT));
+    }
+
+    /**
+     * Maximum number of connections in a pooled data source.
+     * @return
+     */
+    public static int getPoolSize() {
+        return Integer.parseInt(System.getProperty(POOL_SIZE_PROPERTY,
+                System.getenv(POOL_SIZE_ENV) != null ? System.getenv(POOL_SIZE_ENV) : POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds a pooled connection may be idle before it gets evicted from the pool.
+     * @return
+     */
+    public static long getPoolIdleTimeout() {
+        return Long.parseLong(System.getProperty(POOL_IDLE_TIMEOUT_PROPERTY,
+                System.getenv(POOL_IDLE_TIMEOUT_ENV) != null ? System.getenv(POOL_IDLE_TIMEOUT_ENV) : POOL_IDLE_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Maximum number of prepared statements cached per pooled connection. Zero disables the statement cache.
+     * @return
+     */
+    public static int getStatementCacheSize() {
+        return Integer.parseInt(System.getProperty(STATEMENT_CACHE_SIZE_PROPERTY,
+                System.getenv(STATEMENT_CACHE_SIZE_ENV) != null ? System.getenv(STATEMENT_CACHE_SIZE_ENV) : STATEMENT_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Number of rows per JDBC batch when loading data into a table.
+     * @return
+     */
+    public static int getBatchSize() {
+        return Integer.parseInt(System.getProperty(BATCH_SIZE_PROPERTY,
+                System.getenv(BATCH_SIZE_ENV) != null ? System.getenv(BATCH_SIZE_ENV) : BATCH_SIZE_DEFAULT));
+    }
+
+    /**
+     * When set to true CSV data is loaded via PostgreSQL COPY when the database connection supports it.
+     * @return
+     */
+    public static boolean isUseCopy() {
+        return Boolean.parseBoolean(System.getProperty(USE_COPY_PROPERTY,
+                System.getenv(USE_COPY_ENV) != null ? System.getenv(USE_COPY_ENV) : USE_COPY_DEFAULT));
+    }
+
+    /**
+     * Number of rows fetched from the database at once when verifying result sets in streaming mode.
+     * @return
+     */
+    public static int getFetchSize() {
+        return Integer.parseInt(System.getProperty(FETCH_SIZE_PROPERTY,
+                System.getenv(FETCH_SIZE_ENV) != null ? System.getenv(FETCH_SIZE_ENV) : FETCH_SIZE_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds to wait for a matching row to appear in a table.
+     * @return
+     */
+    public static long getWaitTimeout() {
+        return Long.parseLong(System.getProperty(WAIT_TIMEOUT_PROPERTY,
+                System.getenv(WAIT_TIMEOUT_ENV) != null ? System.getenv(WAIT_TIMEOUT_ENV) : WAIT_TIMEOUT_DEFAULT));
+    }
 }
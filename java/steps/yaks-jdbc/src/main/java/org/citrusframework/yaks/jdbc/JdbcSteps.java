@@ -19,22 +19,30 @@ package org.citrusframework.yaks.jdbc;
 
 import javax.sql.DataSource;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.actions.ExecuteSQLQueryAction;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 
 import static com.consol.citrus.actions.ExecuteSQLAction.Builder.sql;
@@ -46,6 +54,11 @@ import static com.consol.citrus.container.RepeatOnErrorUntilTrue.Builder.repeatO
  */
 public class JdbcSteps {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcSteps.class);
+
+    private static final String JDBC_VARIABLE_PREFIX = "YAKS_JDBC_";
+
     @CitrusResource
     private TestCaseRunner runner;
 
@@ -61,6 +74,10 @@ public class JdbcSteps {
     private int maxRetryAttempts = JdbcSettings.getMaxAttempts();
     private long delayBetweenAttempts = JdbcSettings.getDelayBetweenAttempts();
 
+    private int batchSize = JdbcSettings.getBatchSize();
+    private int fetchSize = JdbcSettings.getFetchSize();
+    private long waitTimeout = JdbcSettings.getWaitTimeout();
+
     @Before
     public void before(Scenario scenario) {
         if (dataSource == null && citrus.getCitrusContext().getReferenceResolver().resolveAll(DataSource.class).size() == 1L) {
@@ -84,6 +101,21 @@ public class JdbcSteps {
         this.delayBetweenAttempts = delayBetweenAttempts;
     }
 
+    @Given("^SQL batch size: (\\d+)$")
+    public void configureBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Given("^SQL fetch size: (\\d+)$")
+    public void configureFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Given("^SQL wait timeout: (\\d+)ms$")
+    public void configureWaitTimeout(long waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
     @Given("^(?:D|d)ata source: ([^\"\\s]+)$")
     public void setDataSource(String id) {
         if (!citrus.getCitrusContext().getReferenceResolver().isResolvable(id)) {
@@ -102,6 +134,24 @@ public class JdbcSteps {
         String username = connectionProps.getOrDefault("username", "test");
         String password = connectionProps.getOrDefault("password", "test");
         boolean suppressClose = Boolean.parseBoolean(connectionProps.getOrDefault("suppressClose", Boolean.TRUE.toString()));
+        boolean pooled = Boolean.parseBoolean(connectionProps.getOrDefault("pooled", String.valueOf(JdbcSettings.isPooled())));
+
+        Map<String, String> poolOptions = new HashMap<>();
+        for (String option : Arrays.asList(JdbcDataSources.POOL_SIZE, JdbcDataSources.IDLE_TIMEOUT, JdbcDataSources.STATEMENT_CACHE_SIZE)) {
+            if (connectionProps.containsKey(option)) {
+                poolOptions.put(option, context.replaceDynamicContentInString(connectionProps.get(option)));
+                pooled = true;
+            }
+        }
+
+        if (pooled) {
+            this.dataSource = JdbcDataSources.pooled(
+                    context.replaceDynamicContentInString(driver),
+                    context.replaceDynamicContentInString(url),
+                    context.replaceDynamicContentInString(username),
+                    context.replaceDynamicContentInString(password), poolOptions);
+            return;
+        }
 
         SingleConnectionDataSource singleConnectionDataSource = new SingleConnectionDataSource(
                 context.replaceDynamicContentInString(url),
@@ -190,6 +240,65 @@ public class JdbcSteps {
         sqlQueryStatements.clear();
     }
 
+    @Then("^verify row count (\\d+)$")
+    public void verifyRowCount(long rows) {
+        runStreamingVerification(new VerifyResultSetStreamingAction.Builder()
+                .rows(rows));
+    }
+
+    @Then("^verify each row$")
+    public void verifyEachRow(DataTable expectedColumns) {
+        runStreamingVerification(new VerifyResultSetStreamingAction.Builder()
+                .columns(expectedColumns.asMap(String.class, String.class)));
+    }
+
+    @Then("^verify each row of (\\d+) rows$")
+    public void verifyEachRow(long rows, DataTable expectedColumns) {
+        runStreamingVerification(new VerifyResultSetStreamingAction.Builder()
+                .rows(rows)
+                .columns(expectedColumns.asMap(String.class, String.class)));
+    }
+
+    @Then("^wait for row in ([^\"\\s]+) where (.+)$")
+    public void waitForRow(String table, String condition) {
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                String tableName = context.replaceDynamicContentInString(table);
+                String whereClause = context.replaceDynamicContentInString(condition);
+
+                JdbcWaitSupport.WaitResult result = JdbcWaitSupport.waitForRow(dataSource, tableName, whereClause, waitTimeout);
+                if (result == JdbcWaitSupport.WaitResult.TIMEOUT) {
+                    throw new ActionTimeoutException(waitTimeout,
+                            new CitrusRuntimeException(String.format("No row in table %s where %s", tableName, whereClause)));
+                }
+
+                context.setVariable(JDBC_VARIABLE_PREFIX + "WAIT_MODE", result.name().toLowerCase(Locale.US));
+            }
+        });
+    }
+
+    /**
+     * Verifies result set of current SQL query statements in streaming mode.
+     * @param action
+     */
+    private void runStreamingVerification(VerifyResultSetStreamingAction.Builder action) {
+        action.dataSource(dataSource)
+                .statements(sqlQueryStatements)
+                .fetchSize(fetchSize);
+
+        if (maxRetryAttempts > 0) {
+            runner.run(repeatOnError()
+                    .until((index, context) -> index >= maxRetryAttempts)
+                    .autoSleep(delayBetweenAttempts)
+                    .actions(action));
+        } else {
+            runner.run(action);
+        }
+
+        sqlQueryStatements.clear();
+    }
+
     @When("^(?:execute |perform )?SQL update: (.+)$")
     public void executeUpdate(String statement) {
         if (statement.trim().toUpperCase().startsWith("SELECT")) {
@@ -209,4 +318,20 @@ public class JdbcSteps {
     public void executeUpdates(DataTable statements) {
         statements.asList().forEach(this::executeUpdate);
     }
+
+    @When("^load data ([^\"\\s]+) into table ([^\"\\s]+)$")
+    public void loadData(String file, String table) {
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                String tableName = context.replaceDynamicContentInString(table);
+                JdbcBulkResult result = JdbcBulkLoader.load(dataSource, tableName,
+                        FileUtils.getFileResource(file, context), batchSize, JdbcSettings.isUseCopy());
+
+                LOG.info(String.format("Loaded data %s into table %s: %s", file, tableName, result));
+                context.setVariable(JDBC_VARIABLE_PREFIX + "LOADED_ROWS", result.getRows());
+                context.setVariable(JDBC_VARIABLE_PREFIX + "LOADED_ROWS_PER_SECOND", String.format(Locale.US, "%.1f", result.getRowsPerSecond()));
+            }
+        });
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Waits for a row matching a condition to appear in a table. Uses PostgreSQL LISTEN/NOTIFY when available so the check runs right after
+ * the table has changed. Falls back to polling with an adaptive delay that starts with a few milliseconds and doubles up to a maximum.
+ *
+ * @author Christoph Deppisch
+ */
+public final class JdbcWaitSupport {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcWaitSupport.class);
+
+    private static final boolean POSTGRESQL_DRIVER_PRESENT = ClassUtils.isPresent("org.postgresql.PGConnection", JdbcWaitSupport.class.getClassLoader());
+
+    private static final long INITIAL_POLL_DELAY = 5L;
+    private static final long MAX_POLL_DELAY = 500L;
+
+    private JdbcWaitSupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Waits for a row in given table that matches the condition.
+     * @param dataSource
+     * @param table
+     * @param condition SQL where clause condition.
+     * @param timeout in milliseconds.
+     * @return the way the matching row has been found or timeout when there is no matching row within the timeout.
+     */
+    public static WaitResult waitForRow(DataSource dataSource, String table, String condition, long timeout) {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        String query = String.format("SELECT 1 FROM %s WHERE %s", table, condition);
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+
+            try {
+                RowCheck check = () -> exists(connection, query);
+
+                if (POSTGRESQL_DRIVER_PRESENT && PostgreSQLNotifySupport.isSupported(connection)) {
+                    try {
+                        return PostgreSQLNotifySupport.await(connection, table, check, stoppingAt) ? WaitResult.NOTIFY : WaitResult.TIMEOUT;
+                    } catch (SQLException e) {
+                        LOG.warn(String.format("Unable to use notifications on table %s - falling back to polling", table), e);
+                    }
+                }
+
+                return poll(check, stoppingAt) ? WaitResult.POLL : WaitResult.TIMEOUT;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException(String.format("Failed to wait for row in table %s", table), e);
+        }
+    }
+
+    /**
+     * Runs row check with adaptive delay between attempts until the check succeeds or the time is up.
+     * @param check
+     * @param stoppingAt
+     * @return
+     * @throws SQLException
+     */
+    private static boolean poll(RowCheck check, long stoppingAt) throws SQLException {
+        long delay = INITIAL_POLL_DELAY;
+        while (!check.exists()) {
+            long remaining = stoppingAt - System.currentTimeMillis();
+            if (remaining <= 0L) {
+                return false;
+            }
+
+            try {
+                Thread.sleep(Math.min(delay, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for row", e);
+            }
+
+            delay = Math.min(delay * 2, MAX_POLL_DELAY);
+        }
+
+        return true;
+    }
+
+    private static boolean exists(Connection connection, String query) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setMaxRows(1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    /**
+     * Outcome of a wait for row. Tells if the matching row has been found via notifications or via polling.
+     */
+    public enum WaitResult {
+        NOTIFY,
+        POLL,
+        TIMEOUT
+    }
+
+    @FunctionalInterface
+    interface RowCheck {
+        boolean exists() throws SQLException;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Streams CSV data into a table using the PostgreSQL COPY protocol. Callers must make sure that the PostgreSQL driver
+ * is on the classpath before using this class.
+ *
+ * @author Christoph Deppisch
+ */
+final class PostgreSQLCopySupport {
+
+    private PostgreSQLCopySupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Checks if given connection supports the PostgreSQL COPY protocol.
+     * @param connection
+     * @return
+     * @throws SQLException
+     */
+    static boolean isSupported(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+
+    /**
+     * Copy CSV data without header from given reader into the table columns.
+     * @param connection
+     * @param table
+     * @param columns
+     * @param data
+     * @return number of rows copied.
+     * @throws SQLException
+     * @throws IOException
+     */
+    static long copy(Connection connection, String table, List<String> columns, Reader data) throws SQLException, IOException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        return copyManager.copyIn(String.format("COPY %s (%s) FROM STDIN WITH (FORMAT csv)", table, String.join(", ", columns)), data);
+    }
+}
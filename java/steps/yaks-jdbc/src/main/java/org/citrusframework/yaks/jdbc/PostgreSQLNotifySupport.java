@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for table changes with PostgreSQL LISTEN/NOTIFY. A trigger on the table sends a notification on every insert or update,
+ * so the row check only runs when the table has actually changed. Trigger and trigger function get removed when the wait is over.
+ * The trigger function lives in the temporary schema of the session (pg_temp), so in case the wait never gets to clean up
+ * (e.g. the JVM gets killed) PostgreSQL drops function and dependent trigger when the session ends.
+ * <p>
+ * Creating the trigger takes a SHARE ROW EXCLUSIVE lock and dropping it an ACCESS EXCLUSIVE lock on the table. Both locks are held
+ * only for the short DDL statement, but concurrent writes to the table block for that time and the statements wait for
+ * running transactions on the table to finish.
+ * <p>
+ * Callers must make sure that the PostgreSQL driver is on the classpath before using this class.
+ *
+ * @author Christoph Deppisch
+ */
+final class PostgreSQLNotifySupport {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PostgreSQLNotifySupport.class);
+
+    /** Maximum time to block for notifications before the row check runs again as a safety net */
+    private static final int MAX_NOTIFICATION_WAIT = 1000;
+
+    private PostgreSQLNotifySupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Checks if given connection supports PostgreSQL notifications.
+     * @param connection
+     * @return
+     * @throws SQLException
+     */
+    static boolean isSupported(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+
+    /**
+     * Creates the notification trigger on given table and listens for notifications. Runs the row check each time the table
+     * has changed until the check succeeds or the time is up. Connection must be in auto commit mode.
+     * @param connection
+     * @param table
+     * @param check
+     * @param stoppingAt
+     * @return true when the row check succeeded, false on timeout.
+     * @throws SQLException when the trigger can not be created or the row check fails.
+     */
+    static boolean await(Connection connection, String table, JdbcWaitSupport.RowCheck check, long stoppingAt) throws SQLException {
+        String channel = "yaks_" + UUID.randomUUID().toString().replace("-", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE FUNCTION pg_temp.%s() RETURNS trigger AS $$ BEGIN PERFORM pg_notify('%s', ''); RETURN NULL; END; $$ LANGUAGE plpgsql",
+                    channel, channel));
+            try {
+                statement.execute(String.format("CREATE TRIGGER %s AFTER INSERT OR UPDATE ON %s FOR EACH STATEMENT EXECUTE PROCEDURE pg_temp.%s()",
+                        channel, table, channel));
+                statement.execute("LISTEN " + channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (!check.exists()) {
+                    long remaining = stoppingAt - System.currentTimeMillis();
+                    if (remaining <= 0L) {
+                        return false;
+                    }
+
+                    pgConnection.getNotifications((int) Math.max(1L, Math.min(remaining, MAX_NOTIFICATION_WAIT)));
+                }
+
+                return true;
+            } finally {
+                cleanup(statement, table, channel);
+            }
+        }
+    }
+
+    private static void cleanup(Statement statement, String table, String channel) {
+        try {
+            statement.execute("UNLISTEN " + channel);
+            statement.execute(String.format("DROP TRIGGER IF EXISTS %s ON %s", channel, table));
+            statement.execute(String.format("DROP FUNCTION IF EXISTS pg_temp.%s()", channel));
+        } catch (SQLException e) {
+            LOG.warn(String.format("Failed to remove notification trigger %s on table %s", channel, table), e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs SQL queries and verifies the result set while reading rows one by one. Rows are fetched from the database in chunks of
+ * the given fetch size and are never collected in memory. Each row must match the expected column values. Fails on the first
+ * mismatch and as soon as the result set has more rows than expected.
+ *
+ * @author Christoph Deppisch
+ */
+public class VerifyResultSetStreamingAction extends AbstractTestAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(VerifyResultSetStreamingAction.class);
+
+    private static final String NULL_VALUE = "NULL";
+
+    private final DataSource dataSource;
+    private final List<String> statements;
+    private final int fetchSize;
+    private final Long expectedRows;
+    private final Map<String, String> expectedColumns;
+
+    public VerifyResultSetStreamingAction(Builder builder) {
+        super("verify-result-set-streaming", builder);
+        this.dataSource = builder.dataSource;
+        this.statements = builder.statements;
+        this.fetchSize = builder.fetchSize;
+        this.expectedRows = builder.expectedRows;
+        this.expectedColumns = builder.expectedColumns;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (dataSource == null) {
+            throw new CitrusRuntimeException("Missing data source - please configure a database connection first");
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            // Some drivers (e.g. PostgreSQL) only use cursor based fetching inside of a transaction
+            connection.setAutoCommit(false);
+
+            try {
+                for (String statement : statements) {
+                    long rows = verify(connection, context.replaceDynamicContentInString(statement), context);
+                    LOG.info(String.format("Verified %d rows of SQL query: %s", rows, statement));
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to verify SQL result set", e);
+        }
+    }
+
+    /**
+     * Runs query and verifies all rows in the result set.
+     * @param connection
+     * @param statement
+     * @param context
+     * @return number of rows verified.
+     * @throws SQLException
+     */
+    private long verify(Connection connection, String statement, TestContext context) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(statement, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            query.setFetchSize(fetchSize);
+
+            try (ResultSet resultSet = query.executeQuery()) {
+                List<ExpectedColumn> expected = resolveColumns(resultSet.getMetaData(), context);
+
+                long rows = 0L;
+                while (resultSet.next()) {
+                    rows++;
+
+                    if (expectedRows != null && rows > expectedRows) {
+                        throw new ValidationException(String.format("Validation failed for SQL query - expected %d rows but result set has more rows", expectedRows));
+                    }
+
+                    for (ExpectedColumn column : expected) {
+                        verifyValue(resultSet, column, rows, context);
+                    }
+                }
+
+                if (expectedRows != null && rows != expectedRows) {
+                    throw new ValidationException(String.format("Validation failed for SQL query - expected %d rows but was %d", expectedRows, rows));
+                }
+
+                return rows;
+            }
+        }
+    }
+
+    private void verifyValue(ResultSet resultSet, ExpectedColumn column, long row, TestContext context) throws SQLException {
+        Object value = resultSet.getObject(column.index);
+        String actualValue = value != null ? value.toString() : NULL_VALUE;
+        String columnName = column.label;
+        String expectedValue = column.expectedValue;
+
+        if (ValidationMatcherUtils.isValidationMatcherExpression(expectedValue)) {
+            ValidationMatcherUtils.resolveValidationMatcher(columnName, actualValue, expectedValue, context);
+        } else if (!expectedValue.equals(actualValue)) {
+            throw new ValidationException(String.format("Validation failed for column '%s' in row %d - expected '%s' but was '%s'",
+                    columnName, row, expectedValue, actualValue));
+        }
+    }
+
+    /**
+     * Maps expected column values to the column index and label in the result set. Column names are case-insensitive.
+     * @param metaData
+     * @param context
+     * @return
+     * @throws SQLException
+     */
+    private List<ExpectedColumn> resolveColumns(ResultSetMetaData metaData, TestContext context) throws SQLException {
+        List<ExpectedColumn> columns = new ArrayList<>();
+        for (Map.Entry<String, String> column : expectedColumns.entrySet()) {
+            String expectedValue = context.replaceDynamicContentInString(column.getValue());
+            if (CitrusSettings.IGNORE_PLACEHOLDER.equals(expectedValue)) {
+                continue;
+            }
+
+            ExpectedColumn expectedColumn = null;
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String label = metaData.getColumnLabel(i);
+                if (label.equalsIgnoreCase(column.getKey())) {
+                    expectedColumn = new ExpectedColumn(i, label, expectedValue);
+                    break;
+                }
+            }
+
+            if (expectedColumn == null) {
+                throw new ValidationException(String.format("Validation failed for SQL query - missing column '%s' in result set", column.getKey()));
+            }
+
+            columns.add(expectedColumn);
+        }
+
+        return columns;
+    }
+
+    /**
+     * Expected column value with resolved column index and label in the result set.
+     */
+    private static final class ExpectedColumn {
+        private final int index;
+        private final String label;
+        private final String expectedValue;
+
+        private ExpectedColumn(int index, String label, String expectedValue) {
+            this.index = index;
+            this.label = label;
+            this.expectedValue = expectedValue;
+        }
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractTestActionBuilder<VerifyResultSetStreamingAction, Builder> {
+
+        private DataSource dataSource;
+        private final List<String> statements = new ArrayList<>();
+        private int fetchSize = JdbcSettings.getFetchSize();
+        private Long expectedRows;
+        private final Map<String, String> expectedColumns = new LinkedHashMap<>();
+
+        public Builder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        public Builder statements(List<String> statements) {
+            this.statements.addAll(statements);
+            return this;
+        }
+
+        public Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public Builder rows(long expectedRows) {
+            this.expectedRows = expectedRows;
+            return this;
+        }
+
+        public Builder column(String name, String expectedValue) {
+            this.expectedColumns.put(name, expectedValue);
+            return this;
+        }
+
+        public Builder columns(Map<String, String> expectedColumns) {
+            this.expectedColumns.putAll(expectedColumns);
+            return this;
+        }
+
+        @Override
+        public VerifyResultSetStreamingAction build() {
+            return new VerifyResultSetStreamingAction(this);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JdbcDataSourcesTest {
+
+    private static final String DRIVER = "org.postgresql.Driver";
+    private static final String URL = "jdbc:postgresql://localhost:5432/test";
+
+    @Test
+    public void shouldApplyPoolOptions() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(JdbcDataSources.POOL_SIZE, "5");
+        options.put(JdbcDataSources.IDLE_TIMEOUT, "30000");
+        options.put(JdbcDataSources.STATEMENT_CACHE_SIZE, "50");
+
+        BasicDataSource dataSource = JdbcDataSources.create(DRIVER, URL, "user", "secret", options);
+        try {
+            Assertions.assertThat(dataSource.getDriverClassName()).isEqualTo(DRIVER);
+            Assertions.assertThat(dataSource.getUrl()).isEqualTo(URL);
+            Assertions.assertThat(dataSource.getUsername()).isEqualTo("user");
+            Assertions.assertThat(dataSource.getMaxTotal()).isEqualTo(5);
+            Assertions.assertThat(dataSource.getMaxIdle()).isEqualTo(5);
+            Assertions.assertThat(dataSource.getMinEvictableIdleTimeMillis()).isEqualTo(30000L);
+            Assertions.assertThat(dataSource.isPoolPreparedStatements()).isTrue();
+            Assertions.assertThat(dataSource.getMaxOpenPreparedStatements()).isEqualTo(50);
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void shouldUseDefaultPoolOptions() throws Exception {
+        BasicDataSource dataSource = JdbcDataSources.create(DRIVER, URL, "user", "secret", Collections.emptyMap());
+        try {
+            Assertions.assertThat(dataSource.getMaxTotal()).isEqualTo(JdbcSettings.getPoolSize());
+            Assertions.assertThat(dataSource.getMinEvictableIdleTimeMillis()).isEqualTo(JdbcSettings.getPoolIdleTimeout());
+            Assertions.assertThat(dataSource.isPoolPreparedStatements()).isEqualTo(JdbcSettings.getStatementCacheSize() > 0);
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void shouldSharePoolForSameSettings() {
+        BasicDataSource dataSource = JdbcDataSources.pooled(DRIVER, URL, "shared", "secret", Collections.emptyMap());
+
+        Assertions.assertThat(JdbcDataSources.pooled(DRIVER, URL, "shared", "secret", Collections.emptyMap()))
+                .isSameAs(dataSource);
+        Assertions.assertThat(JdbcDataSources.pooled(DRIVER, URL, "shared", "secret",
+                Collections.singletonMap(JdbcDataSources.POOL_SIZE, "2")))
+                .isNotSameAs(dataSource);
+        Assertions.assertThat(JdbcDataSources.pooled(DRIVER, URL, "other", "secret", Collections.emptyMap()))
+                .isNotSameAs(dataSource);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
+import io.cucumber.java.en.Given;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JdbcTestSteps {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcTestSteps.class);
+
+    @CitrusResource
+    private TestCaseRunner runner;
+
+    /**
+     * Runs the SQL update on a separate connection after the given delay, so the update happens
+     * while subsequent steps are waiting for it.
+     * @param delay
+     * @param sql
+     */
+    @Given("^SQL update in background after (\\d+)ms: (.+)$")
+    public void backgroundUpdate(long delay, String sql) {
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                String url = context.getVariable("database.url");
+                String username = context.getVariable("database.user");
+                String password = context.getVariable("database.password");
+                String statement = context.replaceDynamicContentInString(sql);
+
+                Thread update = new Thread(() -> {
+                    try {
+                        Thread.sleep(delay);
+
+                        try (Connection connection = DriverManager.getConnection(url, username, password);
+                             Statement sqlStatement = connection.createStatement()) {
+                            sqlStatement.executeUpdate(statement);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (SQLException e) {
+                        LOG.error("Failed to run background SQL update", e);
+                    }
+                }, "yaks-background-sql");
+                update.setDaemon(true);
+                update.start();
+            }
+        });
+    }
+}
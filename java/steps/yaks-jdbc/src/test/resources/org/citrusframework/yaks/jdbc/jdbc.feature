@@ -23,6 +23,16 @@ Feature: JDBC steps
     Given SQL query: SELECT task FROM todo WHERE id=1
     Then verify column TASK=Learn some CamelK!
 
+  Scenario: Pooled connection
+    Given Database connection
+      | url                 | ${database.url} |
+      | username            | ${database.user} |
+      | password            | ${database.password} |
+      | poolSize            | 5 |
+      | statementCacheSize  | 20 |
+    Given SQL query: SELECT task FROM todo WHERE id=1
+    Then verify column TASK=Learn some CamelK!
+
   Scenario: Verify result set
     Given SQL query: SELECT * FROM todo ORDER BY id
     Then verify columns
@@ -37,3 +47,32 @@ Feature: JDBC steps
       assert rows.size == 1
       assert rows[0].TASK == 'Learn some CamelK!'
       """
+
+  Scenario: Load CSV data
+    Given SQL batch size: 1
+    When load data classpath:org/citrusframework/yaks/jdbc/todo-data.csv into table todo
+    Then SQL query: SELECT task FROM todo WHERE id=101
+    And verify column TASK=Escape "quoted", values
+
+  Scenario: Load JSON data
+    When load data classpath:org/citrusframework/yaks/jdbc/todo-data.json into table todo
+    Then SQL query: SELECT COUNT(*) AS LOADED FROM todo WHERE id>=200
+    And verify column LOADED=${YAKS_JDBC_LOADED_ROWS}
+
+  Scenario: Verify streaming
+    Given SQL fetch size: 1
+    Given SQL query: SELECT * FROM todo WHERE id>=200
+    Then verify each row of 2 rows
+      | TASK      | @matches('.*JSON.*')@ |
+      | ID        | @greaterThan(199)@    |
+    Given SQL query: SELECT * FROM todo WHERE id>=100
+    Then verify row count 4
+
+  Scenario: Wait for row
+    Given SQL wait timeout: 5000ms
+    Given SQL update in background after 500ms: INSERT INTO todo (id, task, completed) VALUES (300, 'Wait for me', 0)
+    Then wait for row in todo where id = 300 AND task = 'Wait for me'
+    Given SQL query: SELECT 'notify' AS WAIT_MODE
+    Then verify column WAIT_MODE=${YAKS_JDBC_WAIT_MODE}
+    Given SQL query: SELECT COUNT(*) AS TRIGGERS FROM pg_trigger WHERE tgrelid = 'todo'::regclass AND NOT tgisinternal
+    Then verify column TRIGGERS=0
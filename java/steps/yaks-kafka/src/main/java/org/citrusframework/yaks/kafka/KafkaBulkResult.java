@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a Kafka bulk send or receive operation. Records message latency in a histogram with microsecond resolution.
+ * For produced messages the latency is the time until the broker has acknowledged the record. For consumed messages
+ * the latency is the end-to-end time between the record timestamp and the time the record has been received.
+ *
+ * @author Christoph Deppisch
+ */
+public class KafkaBulkResult {
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile long durationNanos;
+    private volatile long lag = -1L;
+
+    /**
+     * Record message with given latency in microseconds.
+     * @param latencyMicros
+     */
+    void record(long latencyMicros) {
+        latency.recordValue(Math.max(0L, latencyMicros));
+        messages.increment();
+    }
+
+    /**
+     * Record failed message.
+     */
+    void error() {
+        errors.increment();
+    }
+
+    /**
+     * Sets the overall duration of the bulk operation.
+     * @param durationNanos
+     */
+    void setDuration(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Sets the remaining consumer lag after the bulk receive operation.
+     * @param lag
+     */
+    void setLag(long lag) {
+        this.lag = lag;
+    }
+
+    /**
+     * Gets the latency in milliseconds at given percentile (e.g. 99.9).
+     * @param percentile
+     * @return
+     */
+    public double getLatency(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000D;
+    }
+
+    /**
+     * Gets the mean latency in milliseconds.
+     * @return
+     */
+    public double getMeanLatency() {
+        return latency.getMean() / 1000D;
+    }
+
+    /**
+     * Gets the max latency in milliseconds.
+     * @return
+     */
+    public double getMaxLatency() {
+        return latency.getMaxValue() / 1000D;
+    }
+
+    /**
+     * Gets the number of successfully processed messages.
+     * @return
+     */
+    public long getMessages() {
+        return messages.sum();
+    }
+
+    /**
+     * Gets the number of failed messages.
+     * @return
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Gets the throughput in messages per second.
+     * @return
+     */
+    public double getThroughput() {
+        return durationNanos > 0 ? getMessages() * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos : 0D;
+    }
+
+    /**
+     * Gets the remaining consumer lag or -1 when not available.
+     * @return
+     */
+    public long getLag() {
+        return lag;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("messages=%d, errors=%d, throughput=%.1f msgs/s, lag=%d, " +
+                        "latency p50=%.3f ms, p99=%.3f ms, max=%.3f ms, mean=%.3f ms",
+                getMessages(), getErrors(), getThroughput(), getLag(),
+                getLatency(50), getLatency(99), getMaxLatency(), getMeanLatency());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpointConfiguration;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends and receives large amounts of Kafka messages with plain Kafka clients. Bypasses the Citrus message processing
+ * so messages are not validated one by one. Producer sends are asynchronous and batched, the consumer fetches many records
+ * per poll. Connection settings, consumer group and additional client properties are taken from the Kafka endpoint configuration.
+ *
+ * @author Christoph Deppisch
+ */
+public final class KafkaBulkSupport {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaBulkSupport.class);
+
+    private KafkaBulkSupport() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Sends given number of messages with same key and headers to the topic. The body supplier is called for each message so
+     * each message is able to use its own body. Waits for all messages to be acknowledged.
+     * @param configuration
+     * @param topic
+     * @param partition
+     * @param key
+     * @param headers
+     * @param body
+     * @param count
+     * @return
+     */
+    public static KafkaBulkResult send(KafkaEndpointConfiguration configuration, String topic, Integer partition,
+                                       String key, Map<String, String> headers, Supplier<String> body, long count) {
+        LOG.info(String.format("Sending %d Kafka messages to topic '%s'", count, topic));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, configuration.getServer());
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, KafkaSettings.getProducerLingerMs());
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, KafkaSettings.getProducerBatchSize());
+        if (configuration.getProducerProperties() != null) {
+            properties.putAll(configuration.getProducerProperties());
+        }
+
+        List<Header> recordHeaders = new ArrayList<>();
+        headers.forEach((name, value) -> recordHeaders.add(new RecordHeader(name, value.getBytes(StandardCharsets.UTF_8))));
+
+        KafkaBulkResult result = new KafkaBulkResult();
+        long started = System.nanoTime();
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(properties, new StringSerializer(), new StringSerializer())) {
+            for (long i = 0; i < count; i++) {
+                long sent = System.nanoTime();
+                producer.send(new ProducerRecord<>(topic, partition, null, key, body.get(), recordHeaders), (metadata, e) -> {
+                    if (e != null) {
+                        LOG.debug("Failed to send Kafka message", e);
+                        result.error();
+                    } else {
+                        result.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+                    }
+                });
+            }
+
+            producer.flush();
+        } catch (KafkaException e) {
+            throw new CitrusRuntimeException(String.format("Failed to send Kafka messages to topic '%s'", topic), e);
+        }
+        result.setDuration(System.nanoTime() - started);
+
+        LOG.info("Kafka bulk send result: " + result);
+        return result;
+    }
+
+    /**
+     * Receives given number of messages from the topic within given timeout. Commits the consumed offsets and
+     * calculates the remaining consumer lag on the assigned partitions. Fails when more than the given number of messages
+     * have been fetched.
+     * @param configuration
+     * @param topic
+     * @param count
+     * @param timeout
+     * @return
+     */
+    public static KafkaBulkResult receive(KafkaEndpointConfiguration configuration, String topic, long count, long timeout) {
+        LOG.info(String.format("Receiving %d Kafka messages on topic '%s'", count, topic));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, configuration.getServer());
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, configuration.getConsumerGroup());
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, configuration.getOffsetReset());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, KafkaSettings.getConsumerMaxPollRecords());
+        if (configuration.getConsumerProperties() != null) {
+            properties.putAll(configuration.getConsumerProperties());
+        }
+
+        KafkaBulkResult result = new KafkaBulkResult();
+        long started = System.nanoTime();
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        long unexpected = 0L;
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(properties, new StringDeserializer(), new StringDeserializer())) {
+            consumer.subscribe(Collections.singletonList(topic));
+
+            long remaining = timeout;
+            while (result.getMessages() < count && remaining > 0) {
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(Math.min(remaining, 100L)));
+
+                long received = System.currentTimeMillis();
+                for (ConsumerRecord<String, String> record : records) {
+                    if (result.getMessages() < count) {
+                        result.record(TimeUnit.MILLISECONDS.toMicros(received - record.timestamp()));
+                    } else {
+                        unexpected++;
+                    }
+                }
+
+                remaining = stoppingAt - System.currentTimeMillis();
+            }
+            result.setDuration(System.nanoTime() - started);
+
+            consumer.commitSync();
+            result.setLag(getLag(consumer));
+        } catch (KafkaException e) {
+            throw new CitrusRuntimeException(String.format("Failed to receive Kafka messages on topic '%s'", topic), e);
+        }
+
+        LOG.info("Kafka bulk receive result: " + result);
+
+        if (result.getMessages() < count) {
+            throw new ActionTimeoutException(timeout, new CitrusRuntimeException(
+                    String.format("Received %d of %d Kafka messages on topic '%s'", result.getMessages(), count, topic)));
+        }
+
+        if (unexpected > 0) {
+            throw new ValidationException(String.format("Received %d unexpected Kafka messages on topic '%s' in addition to the expected %d messages",
+                    unexpected, topic, count));
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates the sum of remaining records on all assigned partitions.
+     * @param consumer
+     * @return
+     */
+    private static long getLag(KafkaConsumer<String, String> consumer) {
+        Set<TopicPartition> partitions = consumer.assignment();
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        long lag = 0L;
+        for (TopicPartition partition : partitions) {
+            lag += Math.max(0L, endOffsets.getOrDefault(partition, 0L) - consumer.position(partition));
+        }
+
+        return lag;
+    }
+}
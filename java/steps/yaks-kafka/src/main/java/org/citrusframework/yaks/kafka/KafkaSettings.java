@@ -35,6 +35,18 @@ public class KafkaSettings {
     private static final String ENDPOINT_NAME_ENV = KAFKA_ENV_PREFIX + "ENDPOINT_NAME";
     private static final String ENDPOINT_NAME_DEFAULT = "yaks-kafka-endpoint";
 
+    private static final String PRODUCER_LINGER_MS_PROPERTY = KAFKA_PROPERTY_PREFIX + "producer.linger.ms";
+    private static final String PRODUCER_LINGER_MS_ENV = KAFKA_ENV_PREFIX + "PRODUCER_LINGER_MS";
+    private static final String PRODUCER_LINGER_MS_DEFAULT = "5";
+
+    private static final String PRODUCER_BATCH_SIZE_PROPERTY = KAFKA_PROPERTY_PREFIX + "producer.batch.size";
+    private static final String PRODUCER_BATCH_SIZE_ENV = KAFKA_ENV_PREFIX + "PRODUCER_BATCH_SIZE";
+    private static final String PRODUCER_BATCH_SIZE_DEFAULT = "65536";
+
+    private static final String CONSUMER_MAX_POLL_RECORDS_PROPERTY = KAFKA_PROPERTY_PREFIX + "consumer.max.poll.records";
+    private static final String CONSUMER_MAX_POLL_RECORDS_ENV = KAFKA_ENV_PREFIX + "CONSUMER_MAX_POLL_RECORDS";
+    private static final String CONSUMER_MAX_POLL_RECORDS_DEFAULT = "5000";
+
     static final String NAMESPACE_PROPERTY = KAFKA_PROPERTY_PREFIX + "namespace";
     static final String NAMESPACE_ENV = KAFKA_ENV_PREFIX + "NAMESPACE";
 
@@ -60,6 +72,34 @@ public class KafkaSettings {
                 System.getenv(ENDPOINT_NAME_ENV) != null ? System.getenv(ENDPOINT_NAME_ENV) : ENDPOINT_NAME_DEFAULT);
     }
 
+    /**
+     * Time to wait for additional records before sending a batch when producing messages in bulk.
+     * @return time in milliseconds
+     */
+    public static int getProducerLingerMs() {
+        return Integer.parseInt(System.getProperty(PRODUCER_LINGER_MS_PROPERTY,
+                System.getenv(PRODUCER_LINGER_MS_ENV) != null ? System.getenv(PRODUCER_LINGER_MS_ENV) : PRODUCER_LINGER_MS_DEFAULT));
+    }
+
+    /**
+     * Maximum batch size in bytes when producing messages in bulk.
+     * @return
+     */
+    public static int getProducerBatchSize() {
+        return Integer.parseInt(System.getProperty(PRODUCER_BATCH_SIZE_PROPERTY,
+                System.getenv(PRODUCER_BATCH_SIZE_ENV) != null ? System.getenv(PRODUCER_BATCH_SIZE_ENV) : PRODUCER_BATCH_SIZE_DEFAULT));
+    }
+
+    /**
+     * Maximum number of records returned in a single poll when consuming messages in bulk.
+     * @return
+     */
+    public static int getConsumerMaxPollRecords() {
+        return Integer.parseInt(System.getProperty(CONSUMER_MAX_POLL_RECORDS_PROPERTY,
+                System.getenv(CONSUMER_MAX_POLL_RECORDS_ENV) != null ? System.getenv(CONSUMER_MAX_POLL_RECORDS_ENV) :
+                        CONSUMER_MAX_POLL_RECORDS_DEFAULT));
+    }
+
     /**
      * Namespace to work on when performing Kafka client operations such as creating brokers, topics and so on.
      * @return
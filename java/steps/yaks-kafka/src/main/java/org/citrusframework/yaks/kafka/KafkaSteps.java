@@ -20,13 +20,16 @@ package org.citrusframework.yaks.kafka;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
+import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
 import com.consol.citrus.kafka.endpoint.KafkaEndpointBuilder;
 import com.consol.citrus.kafka.message.KafkaMessage;
@@ -67,6 +70,8 @@ public class KafkaSteps {
 
     private long timeout = KafkaSettings.getConsumerTimeout();
 
+    private KafkaBulkResult bulkResult;
+
     @Before
     public void before(Scenario scenario) {
         if (kafkaEndpoint == null) {
@@ -85,6 +90,7 @@ public class KafkaSteps {
 
         messageKey = null;
         partition = null;
+        bulkResult = null;
     }
 
     @Given("^(?:Kafka|kafka) connection$")
@@ -250,6 +256,110 @@ public class KafkaSteps {
         receiveMessageBody(body);
     }
 
+    @When("^send (\\d+) (?:Kafka|kafka) messages to topic ([^\\s]+)(?: from template)?$")
+    public void sendBulkMessages(long count, String topicName) {
+        setTopic(topicName);
+
+        String topicExpression = topic;
+        Integer topicPartition = partition;
+        String key = messageKey;
+        String template = body;
+        Map<String, Object> messageHeaders = new HashMap<>(headers);
+
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                String topic = context.replaceDynamicContentInString(topicExpression);
+
+                Map<String, String> recordHeaders = new HashMap<>();
+                messageHeaders.forEach((name, value) -> recordHeaders.put(name,
+                        context.replaceDynamicContentInString(String.valueOf(value))));
+
+                bulkResult = KafkaBulkSupport.send(kafkaEndpoint.getEndpointConfiguration(), topic, topicPartition,
+                        key != null ? context.replaceDynamicContentInString(key) : null, recordHeaders,
+                        () -> template != null ? context.replaceDynamicContentInString(template) : null, count);
+
+                if (bulkResult.getErrors() > 0) {
+                    throw new CitrusRuntimeException(String.format("Failed to send %d of %d Kafka messages to topic '%s'",
+                            bulkResult.getErrors(), count, topic));
+                }
+            }
+        });
+
+        body = null;
+        headers.clear();
+    }
+
+    @Then("^receive (\\d+) (?:Kafka|kafka) messages on topic ([^\\s]+) within (\\d+) seconds?$")
+    public void receiveBulkMessages(long count, String topicName, long seconds) {
+        setTopic(topicName);
+
+        String topicExpression = topic;
+        runner.run(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                bulkResult = KafkaBulkSupport.receive(kafkaEndpoint.getEndpointConfiguration(),
+                        context.replaceDynamicContentInString(topicExpression), count, TimeUnit.SECONDS.toMillis(seconds));
+            }
+        });
+    }
+
+    @Then("^(?:expect|verify) (?:Kafka|kafka) throughput (?:is )?(?:above|at least) (\\d+) (?:msgs/s|messages per second)$")
+    public void verifyThroughput(long minThroughput) {
+        KafkaBulkResult result = getBulkResult();
+
+        if (result.getThroughput() < minThroughput) {
+            throw new ValidationException(String.format("Kafka throughput of %.1f msgs/s is below limit of %d msgs/s - %s",
+                    result.getThroughput(), minThroughput, result));
+        }
+    }
+
+    @Then("^(?:expect|verify) (?:Kafka|kafka) latency (p\\d+(?:\\.\\d+)?|mean|max) (?:is )?(?:below|less than) (\\d+)(?: ms| milliseconds)$")
+    public void verifyLatency(String metric, long maxLatency) {
+        KafkaBulkResult result = getBulkResult();
+
+        double latency;
+        if ("max".equals(metric)) {
+            latency = result.getMaxLatency();
+        } else if ("mean".equals(metric)) {
+            latency = result.getMeanLatency();
+        } else {
+            latency = result.getLatency(Double.parseDouble(metric.substring(1)));
+        }
+
+        if (latency >= maxLatency) {
+            throw new ValidationException(String.format("Kafka latency %s of %.3f ms exceeds limit of %d ms - %s",
+                    metric, latency, maxLatency, result));
+        }
+    }
+
+    @Then("^(?:expect|verify) (?:Kafka|kafka) consumer lag (?:is )?(below|at most) (\\d+)$")
+    public void verifyConsumerLag(String comparison, long maxLag) {
+        KafkaBulkResult result = getBulkResult();
+
+        if (result.getLag() < 0) {
+            throw new CitrusRuntimeException("Missing Kafka consumer lag - please receive Kafka messages in bulk first");
+        }
+
+        boolean exceeded = "below".equals(comparison) ? result.getLag() >= maxLag : result.getLag() > maxLag;
+        if (exceeded) {
+            throw new ValidationException(String.format("Kafka consumer lag of %d exceeds limit of %d - %s",
+                    result.getLag(), maxLag, result));
+        }
+    }
+
+    /**
+     * Gets the result of the last bulk send or receive operation.
+     * @return
+     */
+    private KafkaBulkResult getBulkResult() {
+        if (bulkResult == null) {
+            throw new CitrusRuntimeException("Missing Kafka bulk result - please send or receive Kafka messages in bulk first");
+        }
+
+        return bulkResult;
+    }
+
     private Message createKafkaMessage() {
         KafkaMessage message = new KafkaMessage(body, headers)
                 .topic(topic);
@@ -0,0 +1,20 @@
+Feature: Kafka bulk steps
+
+  Background:
+    Given Kafka connection
+      | url           | localhost:9092 |
+      | topic         | bulk           |
+      | consumerGroup | bulk-group     |
+
+  Scenario: Send and receive messages in bulk
+    Given Kafka message key: citrus:randomString(10)
+    Given Kafka message body
+      """
+      { "message": "Hello from YAKS!" }
+      """
+    When send 1000 Kafka messages to topic bulk from template
+    Then verify Kafka throughput is above 1 msgs/s
+    When receive 1000 Kafka messages on topic bulk within 30 seconds
+    Then verify Kafka throughput is above 1 msgs/s
+    And verify Kafka latency p99 is below 30000 ms
+    And verify Kafka consumer lag is at most 0
@@ -78,7 +78,7 @@ public class KnativeEventingSteps {
                 .brokers()
                 .create(brokerName));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .brokers()
@@ -110,7 +110,7 @@ public class KnativeEventingSteps {
                 .create(triggerName)
                 .onService(serviceName));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .trigger()
@@ -126,7 +126,7 @@ public class KnativeEventingSteps {
                 .onService(serviceName)
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .trigger()
@@ -141,7 +141,7 @@ public class KnativeEventingSteps {
                 .create(triggerName)
                 .onChannel(channelName));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .trigger()
@@ -157,7 +157,7 @@ public class KnativeEventingSteps {
                 .onChannel(channelName)
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .trigger()
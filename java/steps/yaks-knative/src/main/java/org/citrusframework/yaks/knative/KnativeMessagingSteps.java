@@ -62,7 +62,7 @@ public class KnativeMessagingSteps {
                 .channels()
                 .create(channelName));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .channels()
@@ -85,7 +85,7 @@ public class KnativeMessagingSteps {
                 .onChannel(channelName)
                 .service(serviceName));
 
-        if (KnativeSteps.autoRemoveResources) {
+        if (KnativeSteps.isAutoRemoveResources()) {
             runner.then(doFinally()
                     .actions(knative().client(k8sClient).client(knativeClient)
                             .subscriptions()
@@ -21,6 +21,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
@@ -44,7 +45,8 @@ public class KnativeSteps {
 
     private KubernetesClient k8sClient;
 
-    protected static boolean autoRemoveResources = KnativeSettings.isAutoRemoveResources();
+    /** Bound to the executing thread so scenarios are able to run in parallel */
+    private static final ThreadLocal<Boolean> AUTO_REMOVE_RESOURCES = ThreadLocal.withInitial(KnativeSettings::isAutoRemoveResources);
 
     @Before
     public void before(Scenario scenario) {
@@ -57,14 +59,20 @@ public class KnativeSteps {
         }
     }
 
+    @After
+    public void after(Scenario scenario) {
+        // reset to the default setting so the next scenario on this worker thread is not affected
+        AUTO_REMOVE_RESOURCES.remove();
+    }
+
     @Given("^Disable auto removal of Knative resources$")
     public void disableAutoRemove() {
-        autoRemoveResources = false;
+        AUTO_REMOVE_RESOURCES.set(false);
     }
 
     @Given("^Enable auto removal of Knative resources$")
     public void enableAutoRemove() {
-        autoRemoveResources = true;
+        AUTO_REMOVE_RESOURCES.set(true);
     }
 
     @Given("^Knative namespace ([^\\s]+)$")
@@ -74,4 +82,8 @@ public class KnativeSteps {
         // update the test variable that points to the namespace
         runner.run(createVariable(KnativeVariableNames.NAMESPACE.value(), namespace));
     }
+
+    protected static boolean isAutoRemoveResources() {
+        return AUTO_REMOVE_RESOURCES.get();
+    }
 }
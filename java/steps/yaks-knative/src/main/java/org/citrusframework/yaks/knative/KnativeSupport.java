@@ -18,15 +18,18 @@
 package org.citrusframework.yaks.knative;
 
 import com.consol.citrus.Citrus;
-import io.fabric8.knative.client.DefaultKnativeClient;
 import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.citrusframework.yaks.kubernetes.KubernetesClients;
 
 /**
  * @author Christoph Deppisch
  */
 public final class KnativeSupport {
 
+    /** Knative client adapted from the shared Kubernetes client */
+    private static volatile KnativeClient sharedClient;
+
     private KnativeSupport() {
         // prevent instantiation of utility class
     }
@@ -35,10 +38,26 @@ public final class KnativeSupport {
         if (citrus.getCitrusContext().getReferenceResolver().resolveAll(KnativeClient.class).size() == 1L) {
             return citrus.getCitrusContext().getReferenceResolver().resolve(KnativeClient.class);
         } else {
-            return new DefaultKnativeClient();
+            return sharedClient();
         }
     }
 
+    /**
+     * Adapt the shared Kubernetes client only once so all steps and resource caches use the same Knative client instance.
+     * @return
+     */
+    private static KnativeClient sharedClient() {
+        if (sharedClient == null) {
+            synchronized (KnativeSupport.class) {
+                if (sharedClient == null) {
+                    sharedClient = KubernetesClients.shared().adapt(KnativeClient.class);
+                }
+            }
+        }
+
+        return sharedClient;
+    }
+
     public static CustomResourceDefinitionContext eventingCRDContext(String kind, String version) {
         return knativeCRDContext("eventing", kind, version);
     }
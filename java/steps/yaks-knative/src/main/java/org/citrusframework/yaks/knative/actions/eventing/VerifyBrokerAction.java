@@ -22,6 +22,8 @@ import com.consol.citrus.exceptions.ValidationException;
 import io.fabric8.knative.eventing.v1.Broker;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesResourceCache;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 
 /**
  * @author Christoph Deppisch
@@ -39,12 +41,20 @@ public class VerifyBrokerAction extends AbstractKnativeAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            Broker broker = getKnativeClient().brokers()
-                    .inNamespace(namespace(context))
-                    .withName(brokerName)
-                    .get();
+            Broker broker;
+            if (KubernetesSettings.isCacheResources()) {
+                broker = KubernetesResourceCache.<Broker>of(getKnativeClient(), namespace(context), "brokers",
+                        () -> getKnativeClient().brokers().inNamespace(namespace(context)).runnableInformer(0L))
+                        .get(brokerName)
+                        .orElse(null);
+            } else {
+                broker = getKnativeClient().brokers()
+                        .inNamespace(namespace(context))
+                        .withName(brokerName)
+                        .get();
+            }
 
-            if (broker.getStatus() != null &&
+            if (broker != null && broker.getStatus() != null &&
                     broker.getStatus().getConditions() != null &&
                     broker.getStatus().getConditions().stream()
                             .anyMatch(condition -> condition.getType().equals("Ready") &&
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Label based bulk cleanup of Kubernetes resources created in a test scenario. Each scenario gets a unique run id that is stamped
+ * as label on every resource created by the steps. Create actions register the resource type and namespace, so teardown
+ * is a single collection delete per resource type and namespace using a label selector instead of one delete request per resource.
+ * Deletes optionally run asynchronously so the next scenario can start right away. Pending deletes are awaited on JVM shutdown.
+ *
+ * @author Christoph Deppisch
+ */
+public final class KubernetesCleanup {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesCleanup.class);
+
+    /** Label holding the scenario run id */
+    public static final String RUN_LABEL = "yaks.citrusframework.org/run-id";
+
+    /** Resource types (namespace, apiVersion, kind) created per run id */
+    private static final Map<String, Set<List<String>>> RESOURCE_TYPES = new ConcurrentHashMap<>();
+
+    /** Resource types (apiVersion, kind) ever created per namespace */
+    private static final Map<String, Set<List<String>>> NAMESPACE_TYPES = new ConcurrentHashMap<>();
+
+    /** Resource types always purged when a namespace gets recycled */
+    private static final List<List<String>> PURGE_TYPES = Arrays.asList(
+            Arrays.asList("v1", "Pod"),
+            Arrays.asList("v1", "Service"),
+            Arrays.asList("v1", "ConfigMap"),
+            Arrays.asList("v1", "Secret"),
+            Arrays.asList("v1", "PersistentVolumeClaim"),
+            Arrays.asList("apps/v1", "Deployment"),
+            Arrays.asList("apps/v1", "StatefulSet"),
+            Arrays.asList("batch/v1", "Job"));
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "yaks-kubernetes-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(KubernetesCleanup::awaitPending, "yaks-kubernetes-cleanup-shutdown"));
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down - nothing to wait for
+        }
+    }
+
+    private KubernetesCleanup() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets the run id of the current scenario. Creates a new run id as test variable if not set yet.
+     * @param context
+     * @return
+     */
+    public static String runId(TestContext context) {
+        if (!context.getVariables().containsKey(KubernetesVariableNames.RUN_ID.value())) {
+            context.setVariable(KubernetesVariableNames.RUN_ID.value(), UUID.randomUUID().toString());
+        }
+
+        return context.getVariable(KubernetesVariableNames.RUN_ID.value());
+    }
+
+    /**
+     * Gets the run labels to add on created resources. Empty when no run id is set in given context.
+     * @param context
+     * @return
+     */
+    public static Map<String, String> runLabels(TestContext context) {
+        if (context.getVariables().containsKey(KubernetesVariableNames.RUN_ID.value())) {
+            return Collections.singletonMap(RUN_LABEL, context.getVariable(KubernetesVariableNames.RUN_ID.value()));
+        }
+
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Adds the run label to given resource and registers the resource type for cleanup.
+     * Does nothing when no run id is set in given context.
+     * @param resource
+     * @param namespace
+     * @param context
+     */
+    public static void label(HasMetadata resource, String namespace, TestContext context) {
+        Map<String, String> runLabels = runLabels(context);
+        if (runLabels.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> labels = new HashMap<>();
+        if (resource.getMetadata().getLabels() != null) {
+            labels.putAll(resource.getMetadata().getLabels());
+        }
+        labels.putAll(runLabels);
+        resource.getMetadata().setLabels(labels);
+
+        register(context, namespace, resource.getApiVersion(), resource.getKind());
+    }
+
+    /**
+     * Enables the cleanup for the current scenario. Steps call this when adding the cleanup action, so only resource types of
+     * scenarios that actually run the cleanup get registered.
+     * @param context
+     */
+    public static void enable(TestContext context) {
+        runId(context);
+        context.setVariable(KubernetesVariableNames.CLEANUP.value(), Boolean.TRUE.toString());
+    }
+
+    /**
+     * Registers resource type in given namespace for cleanup. Does nothing when no run id is set in given context.
+     * The type is only recorded for the scenario cleanup when cleanup has been enabled for the scenario.
+     * @param context
+     * @param namespace
+     * @param apiVersion
+     * @param kind
+     */
+    public static void register(TestContext context, String namespace, String apiVersion, String kind) {
+        Map<String, String> runLabels = runLabels(context);
+        if (runLabels.isEmpty()) {
+            return;
+        }
+
+        NAMESPACE_TYPES.computeIfAbsent(namespace, k -> ConcurrentHashMap.newKeySet())
+                .add(Arrays.asList(apiVersion, kind));
+
+        if (isEnabled(context)) {
+            RESOURCE_TYPES.computeIfAbsent(runLabels.get(RUN_LABEL), k -> ConcurrentHashMap.newKeySet())
+                    .add(Arrays.asList(namespace, apiVersion, kind));
+        }
+    }
+
+    private static boolean isEnabled(TestContext context) {
+        return context.getVariables().containsKey(KubernetesVariableNames.CLEANUP.value())
+                && Boolean.parseBoolean(context.getVariable(KubernetesVariableNames.CLEANUP.value()));
+    }
+
+    /**
+     * Deletes all resources in given namespace that carry a run label, no matter which scenario has created them.
+     * Resources without run label (e.g. service accounts and role bindings provisioned with the namespace) are kept.
+     * @param k8sClient
+     * @param namespace
+     * @return future completing when all deleted resources are gone, completes exceptionally when resources are left.
+     */
+    public static CompletableFuture<Void> purge(KubernetesClient k8sClient, String namespace) {
+        Set<List<String>> resourceTypes = new HashSet<>(PURGE_TYPES);
+        resourceTypes.addAll(NAMESPACE_TYPES.getOrDefault(namespace, Collections.emptySet()));
+
+        long timeout = KubernetesSettings.getCleanupTimeout();
+        List<CompletableFuture<Void>> deletes = new ArrayList<>();
+        for (List<String> resourceType : resourceTypes) {
+            deletes.add(CompletableFuture.runAsync(() -> {
+                if (!delete(k8sClient, null, namespace, resourceType.get(0), resourceType.get(1), timeout)) {
+                    throw new CitrusRuntimeException(String.format("Failed to purge %s resources in namespace '%s'",
+                            resourceType.get(1), namespace));
+                }
+            }, EXECUTOR));
+        }
+
+        return CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Deletes all resources labeled with given run id. Uses one collection delete per registered resource type and namespace
+     * with background propagation. Synchronous cleanup also waits for the deleted resources to be gone, so the next scenario is able
+     * to create resources with the same name.
+     * @param k8sClient
+     * @param runId
+     * @param async when true deletes run in the background and this method returns immediately.
+     */
+    public static void deleteAll(KubernetesClient k8sClient, String runId, boolean async) {
+        Set<List<String>> resourceTypes = RESOURCE_TYPES.remove(runId);
+        if (resourceTypes == null || resourceTypes.isEmpty()) {
+            return;
+        }
+
+        long timeout = async ? 0L : KubernetesSettings.getCleanupTimeout();
+        List<CompletableFuture<Void>> deletes = new ArrayList<>();
+        for (List<String> resourceType : resourceTypes) {
+            deletes.add(CompletableFuture.runAsync(() -> delete(k8sClient, runId,
+                    resourceType.get(0), resourceType.get(1), resourceType.get(2), timeout), EXECUTOR));
+        }
+
+        if (!async) {
+            CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
+    /**
+     * Deletes resources of given type in given namespace by label selector. Selects all resources with a run label when run id is null.
+     * Waits for the resources to be gone when timeout is greater than zero.
+     * @param k8sClient
+     * @param runId
+     * @param namespace
+     * @param apiVersion
+     * @param kind
+     * @param timeout
+     * @return false when the delete has failed or resources are left after the timeout.
+     */
+    private static boolean delete(KubernetesClient k8sClient, String runId, String namespace, String apiVersion, String kind, long timeout) {
+        try {
+            k8sClient.genericKubernetesResources(apiVersion, kind)
+                    .inNamespace(namespace)
+                    .withLabel(RUN_LABEL, runId)
+                    .withPropagationPolicy(DeletionPropagation.BACKGROUND)
+                    .delete();
+            LOG.debug(String.format("Deleted %s resources labeled with %s=%s in namespace '%s'", kind, RUN_LABEL, runId, namespace));
+
+            return timeout <= 0 || awaitDeleted(k8sClient, runId, namespace, apiVersion, kind, timeout);
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to delete %s resources labeled with %s=%s in namespace '%s'", kind, RUN_LABEL, runId, namespace), e);
+            return false;
+        }
+    }
+
+    /**
+     * Polls the resources of given type in given namespace until no resource with the label selector is left or the timeout is exceeded.
+     * @param k8sClient
+     * @param runId
+     * @param namespace
+     * @param apiVersion
+     * @param kind
+     * @param timeout
+     * @return true when all resources are gone.
+     */
+    private static boolean awaitDeleted(KubernetesClient k8sClient, String runId, String namespace, String apiVersion, String kind, long timeout) {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        long delay = Math.min(KubernetesSettings.getDelayBetweenAttempts(), 500L);
+        try {
+            while (!k8sClient.genericKubernetesResources(apiVersion, kind)
+                    .inNamespace(namespace)
+                    .withLabel(RUN_LABEL, runId)
+                    .list()
+                    .getItems()
+                    .isEmpty()) {
+                if (System.currentTimeMillis() > stoppingAt) {
+                    LOG.warn(String.format("Timed out waiting for %s resources labeled with %s=%s in namespace '%s' to be deleted",
+                            kind, RUN_LABEL, runId, namespace));
+                    return false;
+                }
+
+                Thread.sleep(delay);
+            }
+
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Waits for pending background deletes to complete. Called on JVM shutdown before the shared client gets closed.
+     */
+    static void awaitPending() {
+        EXECUTOR.shutdown();
+        try {
+            if (!EXECUTOR.awaitTermination(KubernetesSettings.getCleanupTimeout(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Timed out waiting for Kubernetes resource cleanup to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
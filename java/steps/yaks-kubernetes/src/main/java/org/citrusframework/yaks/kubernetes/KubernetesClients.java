@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM wide registry holding the Kubernetes client shared by all step classes. The client is created lazily on first access
+ * so all steps use the same HTTP connection pool, dispatcher and watch threads. The client gets closed on JVM shutdown.
+ *
+ * @author Christoph Deppisch
+ */
+public final class KubernetesClients {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesClients.class);
+
+    private static volatile KubernetesClient sharedClient;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            // pending resource cleanup and namespace pool removal still need the client
+            KubernetesCleanup.awaitPending();
+            if (sharedClient != null) {
+                NamespacePool.shutdown(sharedClient);
+            }
+            close();
+        }, "yaks-kubernetes-shutdown"));
+    }
+
+    private KubernetesClients() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets the shared Kubernetes client. Creates the client on first access.
+     * @return
+     */
+    public static KubernetesClient shared() {
+        KubernetesClient client = sharedClient;
+        if (client == null) {
+            synchronized (KubernetesClients.class) {
+                client = sharedClient;
+                if (client == null) {
+                    client = create();
+                    sharedClient = client;
+                }
+            }
+        }
+
+        return client;
+    }
+
+    /**
+     * Creates new Kubernetes client tuned with the client settings (concurrent requests, connection pool, timeouts, HTTP/2).
+     * Caller is responsible for closing the client.
+     * @return
+     */
+    public static KubernetesClient create() {
+        Config config = Config.autoConfigure(null);
+        config.setMaxConcurrentRequests(KubernetesSettings.getClientMaxConcurrentRequests());
+        config.setMaxConcurrentRequestsPerHost(KubernetesSettings.getClientMaxConcurrentRequestsPerHost());
+        config.setRequestTimeout(KubernetesSettings.getClientRequestTimeout());
+        config.setConnectionTimeout(KubernetesSettings.getClientConnectionTimeout());
+        config.setHttp2Disable(!KubernetesSettings.isClientHttp2());
+
+        OkHttpClient httpClient = HttpClientUtils.createHttpClient(config)
+                .newBuilder()
+                .connectionPool(new ConnectionPool(KubernetesSettings.getClientConnectionPoolSize(),
+                        KubernetesSettings.getClientKeepAlive(), TimeUnit.MILLISECONDS))
+                .build();
+
+        return new DefaultKubernetesClient(httpClient, config);
+    }
+
+    /**
+     * Closes the shared client if any.
+     */
+    public static synchronized void close() {
+        KubernetesClient client = sharedClient;
+        sharedClient = null;
+
+        if (client != null) {
+            try {
+                client.close();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to close shared Kubernetes client", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared informer based cache for Kubernetes resources. Caches are created lazily per client, namespace and resource type
+ * and live for the whole test run. Resource lookups are served from the local informer store instead of
+ * calling the API server. Verify actions can wait for change events instead of sleeping between attempts.
+ *
+ * @author Christoph Deppisch
+ */
+public final class KubernetesResourceCache<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesResourceCache.class);
+
+    /** Time to wait for the initial informer sync */
+    private static final long SYNC_TIMEOUT = 30000L;
+
+    private static final Map<List<Object>, KubernetesResourceCache<?>> CACHES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(KubernetesResourceCache::stopAll));
+    }
+
+    /** Index of resources by label key and value */
+    private static final String LABEL_INDEX = "labels";
+
+    private final String namespace;
+    private final String resourceType;
+    private volatile SharedIndexInformer<T> informer;
+    private boolean failed;
+
+    /** Counts resource change events, used to wake up threads waiting for changes */
+    private long changes;
+
+    private KubernetesResourceCache(String namespace, String resourceType) {
+        this.namespace = namespace;
+        this.resourceType = resourceType;
+    }
+
+    /**
+     * Get or create shared cache for custom resources of given type in given namespace.
+     * @param k8sClient
+     * @param namespace
+     * @param context
+     * @return
+     */
+    public static KubernetesResourceCache<GenericKubernetesResource> resources(KubernetesClient k8sClient, String namespace,
+                                                                               CustomResourceDefinitionContext context) {
+        return of(k8sClient, namespace, context.getName() + "/" + context.getVersion(),
+                () -> k8sClient.genericKubernetesResources(context).inNamespace(namespace).runnableInformer(0L));
+    }
+
+    /**
+     * Get or create shared cache for pods in given namespace.
+     * @param k8sClient
+     * @param namespace
+     * @return
+     */
+    public static KubernetesResourceCache<Pod> pods(KubernetesClient k8sClient, String namespace) {
+        return of(k8sClient, namespace, "pods", () -> k8sClient.pods().inNamespace(namespace).runnableInformer(0L));
+    }
+
+    /**
+     * Get or create shared cache for given client, namespace and resource type. The informer factory is supposed to create the
+     * informer without starting it. The informer gets started outside of the cache map, so the initial list and watch of one
+     * resource type does not block other namespaces and resource types.
+     * @param client
+     * @param namespace
+     * @param resourceType
+     * @param informerFactory
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends HasMetadata> KubernetesResourceCache<T> of(Object client, String namespace, String resourceType,
+                                                                        Supplier<SharedIndexInformer<T>> informerFactory) {
+        List<Object> key = Arrays.asList(client, namespace, resourceType);
+        KubernetesResourceCache<T> cache = (KubernetesResourceCache<T>) CACHES.computeIfAbsent(key,
+                k -> new KubernetesResourceCache<>(namespace, resourceType));
+
+        try {
+            cache.start(informerFactory);
+        } catch (RuntimeException e) {
+            if (CACHES.remove(key, cache)) {
+                cache.stop();
+            }
+            throw e;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Stops all informers and removes the caches.
+     */
+    public static void stopAll() {
+        CACHES.values().forEach(KubernetesResourceCache::stop);
+        CACHES.clear();
+    }
+
+    /**
+     * Get resource with given name from the cache.
+     * @param name
+     * @return
+     */
+    public Optional<T> get(String name) {
+        return Optional.ofNullable(informer.getIndexer().getByKey(namespace + "/" + name));
+    }
+
+    /**
+     * List all resources in the cache.
+     * @return
+     */
+    public List<T> list() {
+        return informer.getIndexer().list();
+    }
+
+    /**
+     * List all resources in the cache labeled with given key and value.
+     * @param labelKey
+     * @param labelValue
+     * @return
+     */
+    public List<T> list(String labelKey, String labelValue) {
+        return informer.getIndexer().byIndex(LABEL_INDEX, labelKey + "=" + labelValue);
+    }
+
+    /**
+     * Current change count. Use this as a marker before reading from the cache in order to
+     * wait for subsequent changes with {@link #awaitChange(long, long)}.
+     * @return
+     */
+    public synchronized long changes() {
+        return changes;
+    }
+
+    /**
+     * Wait for a resource change event that happened after given change marker. Returns immediately when
+     * changes have been received in the meantime. Otherwise, waits at most the given timeout in milliseconds.
+     * @param since
+     * @param timeout
+     * @throws InterruptedException
+     */
+    public synchronized void awaitChange(long since, long timeout) throws InterruptedException {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (changes == since && remaining > 0) {
+            wait(remaining);
+            remaining = stoppingAt - System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public void onAdd(T resource) {
+        changed();
+    }
+
+    @Override
+    public void onUpdate(T oldResource, T newResource) {
+        changed();
+    }
+
+    @Override
+    public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+        changed();
+    }
+
+    private synchronized void changed() {
+        changes++;
+        notifyAll();
+    }
+
+    /**
+     * Creates and starts the informer once and waits for the initial sync. Concurrent callers of the same cache wait for
+     * the first caller to complete the start.
+     * @param informerFactory
+     */
+    private synchronized void start(Supplier<SharedIndexInformer<T>> informerFactory) {
+        if (failed) {
+            throw new CitrusRuntimeException(String.format("Failed to start shared informer for '%s'", resourceType));
+        }
+
+        if (informer != null) {
+            return;
+        }
+
+        LOG.info(String.format("Starting shared informer for '%s' in namespace '%s'", resourceType, namespace));
+        SharedIndexInformer<T> created = informerFactory.get();
+        created.addIndexers(Collections.singletonMap(LABEL_INDEX, KubernetesResourceCache::labelIndex));
+        created.addEventHandler(this);
+        informer = created;
+
+        try {
+            created.run();
+            awaitSync();
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    private static List<String> labelIndex(HasMetadata resource) {
+        if (resource.getMetadata().getLabels() == null) {
+            return Collections.emptyList();
+        }
+
+        return resource.getMetadata().getLabels().entrySet().stream()
+                .map(label -> label.getKey() + "=" + label.getValue())
+                .collect(Collectors.toList());
+    }
+
+    private void awaitSync() {
+        long stoppingAt = System.currentTimeMillis() + SYNC_TIMEOUT;
+        while (!informer.hasSynced()) {
+            if (System.currentTimeMillis() > stoppingAt) {
+                throw new CitrusRuntimeException(String.format("Failed to sync shared informer for '%s' after %d ms",
+                        resourceType, SYNC_TIMEOUT));
+            }
+
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for shared informer sync for '%s'",
+                        resourceType), e);
+            }
+        }
+    }
+
+    private void stop() {
+        if (informer == null) {
+            return;
+        }
+
+        try {
+            informer.stop();
+        } catch (Exception e) {
+            LOG.warn(String.format("Failed to stop shared informer for '%s'", resourceType), e);
+        }
+    }
+}
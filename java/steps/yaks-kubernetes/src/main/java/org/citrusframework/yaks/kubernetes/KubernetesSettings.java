@@ -75,6 +75,78 @@ public class KubernetesSettings {
     private static final String WATCH_LOGS_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "WATCH_LOGS_TIMEOUT";
     private static final String WATCH_LOGS_TIMEOUT_DEFAULT = "60000";
 
+    private static final String WATCH_POD_STATUS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "watch.pod.status";
+    private static final String WATCH_POD_STATUS_ENV = KUBERNETES_ENV_PREFIX + "WATCH_POD_STATUS";
+    private static final String WATCH_POD_STATUS_DEFAULT = "false";
+
+    private static final String CACHE_RESOURCES_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "cache.resources";
+    private static final String CACHE_RESOURCES_ENV = KUBERNETES_ENV_PREFIX + "CACHE_RESOURCES";
+    private static final String CACHE_RESOURCES_DEFAULT = "false";
+
+    private static final String FAIL_FAST_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "fail.fast";
+    private static final String FAIL_FAST_ENV = KUBERNETES_ENV_PREFIX + "FAIL_FAST";
+    private static final String FAIL_FAST_DEFAULT = "true";
+
+    private static final String MAX_RESTARTS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "max.restarts";
+    private static final String MAX_RESTARTS_ENV = KUBERNETES_ENV_PREFIX + "MAX_RESTARTS";
+    private static final String MAX_RESTARTS_DEFAULT = "-1";
+
+    private static final String FAILURE_LOG_LINES_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "failure.log.lines";
+    private static final String FAILURE_LOG_LINES_ENV = KUBERNETES_ENV_PREFIX + "FAILURE_LOG_LINES";
+    private static final String FAILURE_LOG_LINES_DEFAULT = "25";
+
+    private static final String ASYNC_CLEANUP_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "async.cleanup";
+    private static final String ASYNC_CLEANUP_ENV = KUBERNETES_ENV_PREFIX + "ASYNC_CLEANUP";
+    private static final String ASYNC_CLEANUP_DEFAULT = "false";
+
+    private static final String CLEANUP_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "cleanup.timeout";
+    private static final String CLEANUP_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "CLEANUP_TIMEOUT";
+    private static final String CLEANUP_TIMEOUT_DEFAULT = "60000";
+
+    private static final String NAMESPACE_POOL_SIZE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.size";
+    private static final String NAMESPACE_POOL_SIZE_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_SIZE";
+    private static final String NAMESPACE_POOL_SIZE_DEFAULT = "0";
+
+    private static final String NAMESPACE_POOL_PREFIX_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.prefix";
+    private static final String NAMESPACE_POOL_PREFIX_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_PREFIX";
+    private static final String NAMESPACE_POOL_PREFIX_DEFAULT = "yaks-pool";
+
+    private static final String NAMESPACE_POOL_TEMPLATE_LABEL_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.template.label";
+    private static final String NAMESPACE_POOL_TEMPLATE_LABEL_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_TEMPLATE_LABEL";
+    private static final String NAMESPACE_POOL_TEMPLATE_LABEL_DEFAULT = "yaks.citrusframework.org/namespace-pool-template";
+
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.lease.timeout";
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_LEASE_TIMEOUT";
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_DEFAULT = "300000";
+
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.max.concurrent.requests";
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_MAX_CONCURRENT_REQUESTS";
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_DEFAULT = "64";
+
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.max.concurrent.requests.per.host";
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST";
+    private static final String CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_DEFAULT = "20";
+
+    private static final String CLIENT_CONNECTION_POOL_SIZE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.connection.pool.size";
+    private static final String CLIENT_CONNECTION_POOL_SIZE_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_CONNECTION_POOL_SIZE";
+    private static final String CLIENT_CONNECTION_POOL_SIZE_DEFAULT = "10";
+
+    private static final String CLIENT_KEEP_ALIVE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.keep.alive";
+    private static final String CLIENT_KEEP_ALIVE_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_KEEP_ALIVE";
+    private static final String CLIENT_KEEP_ALIVE_DEFAULT = "300000";
+
+    private static final String CLIENT_REQUEST_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.request.timeout";
+    private static final String CLIENT_REQUEST_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_REQUEST_TIMEOUT";
+    private static final String CLIENT_REQUEST_TIMEOUT_DEFAULT = "10000";
+
+    private static final String CLIENT_CONNECTION_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.connection.timeout";
+    private static final String CLIENT_CONNECTION_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_CONNECTION_TIMEOUT";
+    private static final String CLIENT_CONNECTION_TIMEOUT_DEFAULT = "10000";
+
+    private static final String CLIENT_HTTP2_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "client.http2";
+    private static final String CLIENT_HTTP2_ENV = KUBERNETES_ENV_PREFIX + "CLIENT_HTTP2";
+    private static final String CLIENT_HTTP2_DEFAULT = "true";
+
     private KubernetesSettings() {
         // prevent instantiation of utility class
     }
@@ -184,4 +256,171 @@ public class KubernetesSettings {
         return Long.parseLong(System.getProperty(WATCH_LOGS_TIMEOUT_PROPERTY,
                 System.getenv(WATCH_LOGS_TIMEOUT_ENV) != null ? System.getenv(WATCH_LOGS_TIMEOUT_ENV) : WATCH_LOGS_TIMEOUT_DEFAULT));
     }
+
+    /**
+     * When set to true pod state verification uses the Kubernetes watch API instead of polling. The
+     * overall timeout is still calculated from max attempts and delay between attempts.
+     * @return
+     */
+    public static boolean isWatchPodStatus() {
+        return Boolean.parseBoolean(System.getProperty(WATCH_POD_STATUS_PROPERTY,
+                System.getenv(WATCH_POD_STATUS_ENV) != null ? System.getenv(WATCH_POD_STATUS_ENV) : WATCH_POD_STATUS_DEFAULT));
+    }
+
+    /**
+     * When set to true resource lookups are served from shared informer caches that live for the whole test run.
+     * Verify actions then wait for resource change events instead of polling the API server.
+     * @return
+     */
+    public static boolean isCacheResources() {
+        return Boolean.parseBoolean(System.getProperty(CACHE_RESOURCES_PROPERTY,
+                System.getenv(CACHE_RESOURCES_ENV) != null ? System.getenv(CACHE_RESOURCES_ENV) : CACHE_RESOURCES_DEFAULT));
+    }
+
+    /**
+     * When set to true pod verification fails immediately when the pod is in a state it will not recover from
+     * (e.g. CrashLoopBackOff, ImagePullBackOff or phase Failed) instead of waiting for the timeout.
+     * @return
+     */
+    public static boolean isFailFast() {
+        return Boolean.parseBoolean(System.getProperty(FAIL_FAST_PROPERTY,
+                System.getenv(FAIL_FAST_ENV) != null ? System.getenv(FAIL_FAST_ENV) : FAIL_FAST_DEFAULT));
+    }
+
+    /**
+     * Maximum number of container restarts tolerated while waiting for a pod to become ready. Negative values disable the check (default).
+     * @return
+     */
+    public static int getMaxRestarts() {
+        return Integer.parseInt(System.getProperty(MAX_RESTARTS_PROPERTY,
+                System.getenv(MAX_RESTARTS_ENV) != null ? System.getenv(MAX_RESTARTS_ENV) : MAX_RESTARTS_DEFAULT));
+    }
+
+    /**
+     * Number of log lines added to the diagnostics of a failed pod.
+     * @return
+     */
+    public static int getFailureLogLines() {
+        return Integer.parseInt(System.getProperty(FAILURE_LOG_LINES_PROPERTY,
+                System.getenv(FAILURE_LOG_LINES_ENV) != null ? System.getenv(FAILURE_LOG_LINES_ENV) : FAILURE_LOG_LINES_DEFAULT));
+    }
+
+    /**
+     * Maximum number of concurrent requests dispatched by the shared Kubernetes client.
+     * @return
+     */
+    public static int getClientMaxConcurrentRequests() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONCURRENT_REQUESTS_PROPERTY,
+                System.getenv(CLIENT_MAX_CONCURRENT_REQUESTS_ENV) != null ? System.getenv(CLIENT_MAX_CONCURRENT_REQUESTS_ENV) : CLIENT_MAX_CONCURRENT_REQUESTS_DEFAULT));
+    }
+
+    /**
+     * Maximum number of concurrent requests per host dispatched by the shared Kubernetes client.
+     * @return
+     */
+    public static int getClientMaxConcurrentRequestsPerHost() {
+        return Integer.parseInt(System.getProperty(CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_PROPERTY,
+                System.getenv(CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_ENV) != null ? System.getenv(CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_ENV) : CLIENT_MAX_CONCURRENT_REQUESTS_PER_HOST_DEFAULT));
+    }
+
+    /**
+     * Maximum number of idle connections kept in the connection pool of the shared Kubernetes client.
+     * @return
+     */
+    public static int getClientConnectionPoolSize() {
+        return Integer.parseInt(System.getProperty(CLIENT_CONNECTION_POOL_SIZE_PROPERTY,
+                System.getenv(CLIENT_CONNECTION_POOL_SIZE_ENV) != null ? System.getenv(CLIENT_CONNECTION_POOL_SIZE_ENV) : CLIENT_CONNECTION_POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds an idle connection is kept alive in the connection pool.
+     * @return
+     */
+    public static long getClientKeepAlive() {
+        return Long.parseLong(System.getProperty(CLIENT_KEEP_ALIVE_PROPERTY,
+                System.getenv(CLIENT_KEEP_ALIVE_ENV) != null ? System.getenv(CLIENT_KEEP_ALIVE_ENV) : CLIENT_KEEP_ALIVE_DEFAULT));
+    }
+
+    /**
+     * Request timeout in milliseconds used by the shared Kubernetes client.
+     * @return
+     */
+    public static int getClientRequestTimeout() {
+        return Integer.parseInt(System.getProperty(CLIENT_REQUEST_TIMEOUT_PROPERTY,
+                System.getenv(CLIENT_REQUEST_TIMEOUT_ENV) != null ? System.getenv(CLIENT_REQUEST_TIMEOUT_ENV) : CLIENT_REQUEST_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Connection timeout in milliseconds used by the shared Kubernetes client.
+     * @return
+     */
+    public static int getClientConnectionTimeout() {
+        return Integer.parseInt(System.getProperty(CLIENT_CONNECTION_TIMEOUT_PROPERTY,
+                System.getenv(CLIENT_CONNECTION_TIMEOUT_ENV) != null ? System.getenv(CLIENT_CONNECTION_TIMEOUT_ENV) : CLIENT_CONNECTION_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * When set to true the shared Kubernetes client uses HTTP/2 if the API server supports it.
+     * @return
+     */
+    public static boolean isClientHttp2() {
+        return Boolean.parseBoolean(System.getProperty(CLIENT_HTTP2_PROPERTY,
+                System.getenv(CLIENT_HTTP2_ENV) != null ? System.getenv(CLIENT_HTTP2_ENV) : CLIENT_HTTP2_DEFAULT));
+    }
+
+    /**
+     * When set to true auto removal of resources runs in the background while the next scenario starts.
+     * Disabled by default, because the next scenario may replace resources that are still being deleted.
+     * @return
+     */
+    public static boolean isAsyncCleanup() {
+        return Boolean.parseBoolean(System.getProperty(ASYNC_CLEANUP_PROPERTY,
+                System.getenv(ASYNC_CLEANUP_ENV) != null ? System.getenv(ASYNC_CLEANUP_ENV) : ASYNC_CLEANUP_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds to wait for deleted resources to be gone and for pending background cleanup at the end of the test run.
+     * @return
+     */
+    public static long getCleanupTimeout() {
+        return Long.parseLong(System.getProperty(CLEANUP_TIMEOUT_PROPERTY,
+                System.getenv(CLEANUP_TIMEOUT_ENV) != null ? System.getenv(CLEANUP_TIMEOUT_ENV) : CLEANUP_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Number of namespaces created ahead of time in the namespace pool. Zero disables the namespace pool.
+     * @return
+     */
+    public static int getNamespacePoolSize() {
+        return Integer.parseInt(System.getProperty(NAMESPACE_POOL_SIZE_PROPERTY,
+                System.getenv(NAMESPACE_POOL_SIZE_ENV) != null ? System.getenv(NAMESPACE_POOL_SIZE_ENV) : NAMESPACE_POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Name prefix of the namespaces in the namespace pool.
+     * @return
+     */
+    public static String getNamespacePoolPrefix() {
+        return System.getProperty(NAMESPACE_POOL_PREFIX_PROPERTY,
+                System.getenv(NAMESPACE_POOL_PREFIX_ENV) != null ? System.getenv(NAMESPACE_POOL_PREFIX_ENV) : NAMESPACE_POOL_PREFIX_DEFAULT);
+    }
+
+    /**
+     * Label marking resources in the default namespace (e.g. service accounts, roles, role bindings, secrets) that get copied
+     * to each namespace in the pool.
+     * @return
+     */
+    public static String getNamespacePoolTemplateLabel() {
+        return System.getProperty(NAMESPACE_POOL_TEMPLATE_LABEL_PROPERTY,
+                System.getenv(NAMESPACE_POOL_TEMPLATE_LABEL_ENV) != null ? System.getenv(NAMESPACE_POOL_TEMPLATE_LABEL_ENV) : NAMESPACE_POOL_TEMPLATE_LABEL_DEFAULT);
+    }
+
+    /**
+     * Time in milliseconds a scenario waits for a free namespace in the pool.
+     * @return
+     */
+    public static long getNamespacePoolLeaseTimeout() {
+        return Long.parseLong(System.getProperty(NAMESPACE_POOL_LEASE_TIMEOUT_PROPERTY,
+                System.getenv(NAMESPACE_POOL_LEASE_TIMEOUT_ENV) != null ? System.getenv(NAMESPACE_POOL_LEASE_TIMEOUT_ENV) : NAMESPACE_POOL_LEASE_TIMEOUT_DEFAULT));
+    }
 }
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -72,9 +73,12 @@ public class KubernetesSteps {
     private boolean autoRemoveResources = KubernetesSettings.isAutoRemoveResources();
     private int maxAttempts = KubernetesSettings.getMaxAttempts();
     private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+    private boolean watchPodStatus = KubernetesSettings.isWatchPodStatus();
 
     private Duration watchLogsTimeout = Duration.ofMillis(KubernetesSettings.getWatchLogsTimeout());
 
+    private boolean cleanupRegistered;
+
     @Before
     public void before(Scenario scenario) {
         httpServerSteps = new HttpServerSteps();
@@ -89,6 +93,9 @@ public class KubernetesSteps {
         if (k8sClient == null) {
             k8sClient = KubernetesSupport.getKubernetesClient(citrus);
         }
+
+        KubernetesCleanup.runId(context);
+        cleanupRegistered = false;
     }
 
     @Given("^Disable auto removal of Kubernetes resources$")
@@ -100,6 +107,7 @@ public class KubernetesSteps {
     public void configureResourcePolling(Map<String, Object> configuration) {
         maxAttempts = Integer.parseInt(configuration.getOrDefault("maxAttempts", maxAttempts).toString());
         delayBetweenAttempts = Long.parseLong(configuration.getOrDefault("delayBetweenAttempts", delayBetweenAttempts).toString());
+        watchPodStatus = Boolean.parseBoolean(configuration.getOrDefault("watch", watchPodStatus).toString());
     }
 
     @Given("^Kubernetes namespace ([^\\s]+)$")
@@ -129,6 +137,10 @@ public class KubernetesSteps {
     public void createCustomResource(String resourceType, String yaml) {
         KubernetesResource resource = KubernetesSupport.yaml().loadAs(yaml, KubernetesResource.class);
 
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(kubernetes().client(k8sClient)
                 .customResources()
                 .create()
@@ -136,16 +148,6 @@ public class KubernetesSteps {
                 .kind(resource.getKind())
                 .apiVersion(resource.getApiVersion())
                 .content(yaml));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .customResources()
-                            .delete(resource.getMetadata().getName())
-                            .type(resourceType)
-                            .kind(resource.getKind())
-                            .apiVersion(resource.getApiVersion())));
-        }
     }
 
     @Given("^load Kubernetes custom resource ([^\\s]+) in ([^\\s]+)$")
@@ -180,17 +182,50 @@ public class KubernetesSteps {
 
     @Given("^create Kubernetes resource$")
     public void createResource(String content) {
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(kubernetes().client(k8sClient)
                 .resources()
                 .create()
                 .content(content));
+    }
+
+    @Given("^create Kubernetes resources in parallel$")
+    public void createResourcesInParallel(String content) {
+        createResourcesInParallel(Collections.singletonList(content));
+    }
 
+    @Given("^load Kubernetes resources in parallel$")
+    public void createResourcesInParallelFromFiles(DataTable fileNames) {
+        List<String> contents = new ArrayList<>();
+        for (String fileName : fileNames.asList()) {
+            try {
+                contents.add(FileUtils.readToString(FileUtils.getFileResource(fileName)));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read resource from file", e);
+            }
+        }
+
+        createResourcesInParallel(contents);
+    }
+
+    /**
+     * Creates all resources given as YAML content in parallel and waits for the resources to become ready.
+     * Cleanup is registered upfront so resources created before a failure are removed, too.
+     * @param contents
+     */
+    private void createResourcesInParallel(List<String> contents) {
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .resources()
-                            .delete(content)));
+            registerCleanup();
         }
+
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .createAll()
+                .contents(contents)
+                .timeout(maxAttempts * delayBetweenAttempts));
     }
 
     @Given("^load Kubernetes resource ([^\\s]+)$")
@@ -220,17 +255,14 @@ public class KubernetesSteps {
 
     @Given("^create Kubernetes secret ([^\\s]+)$")
     public void createSecret(String name, Map<String, String> properties) {
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(kubernetes().client(k8sClient)
                 .secrets()
                 .create(name)
                 .properties(properties));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .secrets()
-                            .delete(name)));
-        }
     }
 
     @Given("^load Kubernetes secret from file ([^\\s]+).properties$")
@@ -240,17 +272,14 @@ public class KubernetesSteps {
 
     @Given("^create Kubernetes secret ([^\\s]+) from file ([^\\s]+).properties$")
     public void createSecret(String secretName, String fileName) {
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.run(kubernetes().client(k8sClient)
                 .secrets()
                 .create(secretName)
                 .fromFile(fileName + ".properties"));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .secrets()
-                            .delete(secretName)));
-        }
     }
 
     @Given("^create Kubernetes service$")
@@ -272,18 +301,15 @@ public class KubernetesSteps {
     public void createService(String serviceName, String port, String targetPort) {
         initializeService(serviceName, targetPort);
 
+        if (autoRemoveResources) {
+            registerCleanup();
+        }
+
         runner.given(kubernetes().client(k8sClient)
                 .services()
                 .create(serviceName)
                 .port(port)
                 .targetPort(targetPort));
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .services()
-                            .delete(serviceName)));
-        }
     }
 
     @Given("^create Kubernetes service ([^\\s]+) with port mappings$")
@@ -298,14 +324,11 @@ public class KubernetesSteps {
 
         mappings.forEach(createServiceAction::portMapping);
 
-        runner.run(createServiceAction);
-
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
-                            .services()
-                            .delete(serviceName)));
+            registerCleanup();
         }
+
+        runner.run(createServiceAction);
     }
 
     @Given("^delete Kubernetes service ([^\\s]+)$")
@@ -419,6 +442,7 @@ public class KubernetesSteps {
                 .pods()
                 .verify(name)
                 .printLogs(KubernetesSettings.isPrintPodLogs())
+                .watch(watchPodStatus)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts);
 
@@ -443,6 +467,7 @@ public class KubernetesSteps {
                 .pods()
                 .verify(label, value)
                 .printLogs(KubernetesSettings.isPrintPodLogs())
+                .watch(watchPodStatus)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts);
 
@@ -581,6 +606,23 @@ public class KubernetesSteps {
         httpServerSteps.sendServerResponse(status);
     }
 
+    /**
+     * Registers the label based cleanup of all resources created in this scenario. Registers the cleanup only once per scenario
+     * so teardown is a few collection deletes instead of one delete request per resource.
+     */
+    private void registerCleanup() {
+        if (cleanupRegistered) {
+            return;
+        }
+
+        KubernetesCleanup.enable(context);
+        runner.then(doFinally()
+                .actions(kubernetes().client(k8sClient)
+                        .resources()
+                        .cleanup()));
+        cleanupRegistered = true;
+    }
+
     private void initializeService(String serviceName, String targetPort) {
         setServiceName(serviceName);
         setServicePort(targetPort);
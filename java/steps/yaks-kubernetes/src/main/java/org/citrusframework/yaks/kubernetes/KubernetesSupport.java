@@ -17,8 +17,30 @@
 
 package org.citrusframework.yaks.kubernetes;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.consol.citrus.Citrus;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -27,13 +49,19 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.ContainerState;
+import io.fabric8.kubernetes.api.model.ContainerStateWaiting;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.introspector.Property;
 import org.yaml.snakeyaml.nodes.NodeTuple;
@@ -45,8 +73,28 @@ import org.yaml.snakeyaml.representer.Representer;
  */
 public final class KubernetesSupport {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesSupport.class);
+
+    /** Container waiting reasons that the container does not recover from without user interaction */
+    private static final Set<String> TERMINAL_WAITING_REASONS = new HashSet<>(Arrays.asList("CrashLoopBackOff", "ImagePullBackOff",
+            "ErrImageNeverPull", "InvalidImageName", "CreateContainerConfigError"));
+
     private static final ObjectMapper OBJECT_MAPPER;
 
+    /** Converts typed resources to generic resources keeping empty values (e.g. empty strings and collections) */
+    private static final ObjectMapper RESOURCE_MAPPER;
+
+    /** Shared executor streaming pod logs */
+    private static final ExecutorService LOG_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "yaks-pod-logs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Yaml instances are not thread safe so cache one instance per thread */
+    private static final ThreadLocal<Yaml> YAML = ThreadLocal.withInitial(KubernetesSupport::createYaml);
+
     static {
         OBJECT_MAPPER = new ObjectMapper()
                 .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, JsonInclude.Include.NON_EMPTY))
@@ -55,6 +103,9 @@ public final class KubernetesSupport {
                 .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
                 .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
                 .enable(MapperFeature.BLOCK_UNSAFE_POLYMORPHIC_BASE_TYPES);
+
+        RESOURCE_MAPPER = OBJECT_MAPPER.copy()
+                .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL));
     }
 
     private KubernetesSupport() {
@@ -65,11 +116,19 @@ public final class KubernetesSupport {
         if (citrus.getCitrusContext().getReferenceResolver().resolveAll(KubernetesClient.class).size() == 1L) {
             return citrus.getCitrusContext().getReferenceResolver().resolve(KubernetesClient.class);
         } else {
-            return new DefaultKubernetesClient();
+            return KubernetesClients.shared();
         }
     }
 
+    /**
+     * Gets cached Yaml instance for the current thread. The Yaml instance skips null values and missing properties.
+     * @return
+     */
     public static Yaml yaml() {
+        return YAML.get();
+    }
+
+    private static Yaml createYaml() {
         Representer representer = new Representer() {
             @Override
             protected NodeTuple representJavaBeanProperty(Object javaBean, Property property, Object propertyValue, Tag customTag) {
@@ -92,6 +151,10 @@ public final class KubernetesSupport {
 
     public static GenericKubernetesResource getResource(KubernetesClient k8sClient, String namespace,
                                                         CustomResourceDefinitionContext context, String resourceName) {
+        if (KubernetesSettings.isCacheResources()) {
+            return KubernetesResourceCache.resources(k8sClient, namespace, context).get(resourceName).orElse(null);
+        }
+
         return k8sClient.genericKubernetesResources(context.getGroup() + "/" + context.getVersion(), context.getKind()).inNamespace(namespace)
                 .withName(resourceName)
                 .get();
@@ -99,6 +162,12 @@ public final class KubernetesSupport {
 
     public static GenericKubernetesResourceList getResources(KubernetesClient k8sClient, String namespace,
                                                              CustomResourceDefinitionContext context) {
+        if (KubernetesSettings.isCacheResources()) {
+            GenericKubernetesResourceList resources = new GenericKubernetesResourceList();
+            resources.setItems(KubernetesResourceCache.resources(k8sClient, namespace, context).list());
+            return resources;
+        }
+
         return k8sClient.genericKubernetesResources(context.getGroup() + "/" + context.getVersion(), context.getKind())
                 .inNamespace(namespace)
                 .list();
@@ -106,15 +175,44 @@ public final class KubernetesSupport {
 
     public static GenericKubernetesResourceList getResources(KubernetesClient k8sClient, String namespace,
                                                              CustomResourceDefinitionContext context, String labelKey, String labelValue) {
+        if (KubernetesSettings.isCacheResources()) {
+            GenericKubernetesResourceList resources = new GenericKubernetesResourceList();
+            resources.setItems(KubernetesResourceCache.resources(k8sClient, namespace, context).list(labelKey, labelValue));
+            return resources;
+        }
+
         return k8sClient.genericKubernetesResources(context.getGroup() + "/" + context.getVersion(), context.getKind())
                 .inNamespace(namespace)
                 .withLabel(labelKey, labelValue)
                 .list();
     }
 
+    /**
+     * Creates custom resource from given model object. Converts the model object to a generic resource with the shared object mapper
+     * instead of serializing the object to YAML and parsing it again.
+     * @param k8sClient
+     * @param namespace
+     * @param context
+     * @param resource
+     * @param <T>
+     */
     public static <T> void createResource(KubernetesClient k8sClient, String namespace,
                                    CustomResourceDefinitionContext context, T resource) {
-        createResource(k8sClient, namespace, context, yaml().dump(resource));
+        k8sClient.genericKubernetesResources(context).inNamespace(namespace).createOrReplace(toGenericResource(resource));
+    }
+
+    /**
+     * Converts given resource to a generic resource. Only null values are skipped, because empty values may be
+     * meaningful for the resource (e.g. an empty property value).
+     * @param resource
+     * @return
+     */
+    static GenericKubernetesResource toGenericResource(Object resource) {
+        if (resource instanceof GenericKubernetesResource) {
+            return (GenericKubernetesResource) resource;
+        }
+
+        return RESOURCE_MAPPER.convertValue(resource, GenericKubernetesResource.class);
     }
 
     public static void createResource(KubernetesClient k8sClient, String namespace,
@@ -155,4 +253,235 @@ public final class KubernetesSupport {
         return !status.equals("Running") ||
                 pod.getStatus().getContainerStatuses().stream().allMatch(ContainerStatus::getReady);
     }
+
+    /**
+     * Checks if given pod is in a state it will not recover from. This is the case when the pod phase is Failed, a container is waiting
+     * with an unrecoverable reason (e.g. CrashLoopBackOff, ImagePullBackOff) or a container has exceeded the maximum number of restarts.
+     * @param pod
+     * @return description of the failure or empty when the pod may still become ready.
+     */
+    public static Optional<String> getPodFailure(Pod pod) {
+        if (pod == null || pod.getStatus() == null || !KubernetesSettings.isFailFast()) {
+            return Optional.empty();
+        }
+
+        if ("Failed".equals(pod.getStatus().getPhase())) {
+            return Optional.of(String.format("pod is in phase 'Failed'%s", pod.getStatus().getReason() != null ?
+                    String.format(" (%s: %s)", pod.getStatus().getReason(), pod.getStatus().getMessage()) : ""));
+        }
+
+        int maxRestarts = KubernetesSettings.getMaxRestarts();
+        for (ContainerStatus container : getContainerStatuses(pod)) {
+            ContainerStateWaiting waiting = container.getState() != null ? container.getState().getWaiting() : null;
+            if (waiting != null && TERMINAL_WAITING_REASONS.contains(waiting.getReason())) {
+                return Optional.of(String.format("container '%s' is waiting with reason '%s'%s", container.getName(), waiting.getReason(),
+                        waiting.getMessage() != null ? ": " + waiting.getMessage() : ""));
+            }
+
+            if (maxRestarts >= 0 && container.getRestartCount() != null && container.getRestartCount() > maxRestarts) {
+                return Optional.of(String.format("container '%s' has been restarted %d times", container.getName(), container.getRestartCount()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if none of the given candidate pods is able to become ready anymore. This is the case when there is at least one
+     * candidate and each candidate is in a state it will not recover from.
+     * @param candidates
+     * @return one of the failed pods or empty when some candidate may still become ready.
+     */
+    public static Optional<Pod> getUnrecoverablePod(Collection<Pod> candidates) {
+        Pod failed = null;
+        for (Pod candidate : candidates) {
+            if (!getPodFailure(candidate).isPresent()) {
+                return Optional.empty();
+            }
+
+            failed = candidate;
+        }
+
+        return Optional.ofNullable(failed);
+    }
+
+    /**
+     * Provides diagnostics for a failed pod with the last state of each container and the tail of the pod logs.
+     * @param k8sClient
+     * @param pod
+     * @return
+     */
+    public static String getPodDiagnostics(KubernetesClient k8sClient, Pod pod) {
+        StringBuilder diagnostics = new StringBuilder();
+        diagnostics.append(String.format("Pod '%s' container states:", pod.getMetadata().getName()));
+        for (ContainerStatus container : getContainerStatuses(pod)) {
+            diagnostics.append(System.lineSeparator())
+                    .append(String.format("  %s (restarts: %d): %s", container.getName(),
+                            container.getRestartCount() != null ? container.getRestartCount() : 0, describe(container)));
+        }
+
+        int logLines = KubernetesSettings.getFailureLogLines();
+        if (logLines > 0) {
+            diagnostics.append(System.lineSeparator())
+                    .append(String.format("Last %d log lines:", logLines))
+                    .append(System.lineSeparator());
+
+            try {
+                PodResource<Pod> podResource = k8sClient.pods()
+                        .inNamespace(pod.getMetadata().getNamespace())
+                        .withName(pod.getMetadata().getName());
+
+                String log;
+                if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
+                    log = podResource.inContainer(pod.getSpec().getContainers().get(0).getName()).tailingLines(logLines).getLog();
+                } else {
+                    log = podResource.tailingLines(logLines).getLog();
+                }
+                diagnostics.append(log != null ? log : "");
+            } catch (KubernetesClientException e) {
+                diagnostics.append(String.format("Logs not available - %s", e.getMessage()));
+            }
+        }
+
+        return diagnostics.toString();
+    }
+
+    private static List<ContainerStatus> getContainerStatuses(Pod pod) {
+        List<ContainerStatus> statuses = new ArrayList<>();
+        if (pod.getStatus() != null) {
+            Optional.ofNullable(pod.getStatus().getInitContainerStatuses()).ifPresent(statuses::addAll);
+            Optional.ofNullable(pod.getStatus().getContainerStatuses()).ifPresent(statuses::addAll);
+        }
+        return statuses;
+    }
+
+    private static String describe(ContainerStatus container) {
+        ContainerState state = container.getState();
+        if (state != null && state.getWaiting() != null) {
+            return String.format("waiting (%s) %s", state.getWaiting().getReason(), describe(container.getLastState()));
+        } else if (state != null && state.getTerminated() != null) {
+            return String.format("terminated (%s, exit code %d)", state.getTerminated().getReason(), state.getTerminated().getExitCode());
+        } else if (state != null && state.getRunning() != null) {
+            return String.format("running %s", describe(container.getLastState()));
+        }
+
+        return "unknown";
+    }
+
+    private static String describe(ContainerState lastState) {
+        if (lastState != null && lastState.getTerminated() != null) {
+            return String.format("- last terminated (%s, exit code %d)", lastState.getTerminated().getReason(), lastState.getTerminated().getExitCode());
+        }
+
+        return "";
+    }
+
+    /**
+     * Streams the log output provided by the given log watch function and waits for the message to be present.
+     * Log lines are scanned as they arrive so the complete log is never held in memory. The log watch must provide
+     * timestamps on each line. When the log stream is closed before the timeout (e.g. container not started yet or connection lost)
+     * the stream is reopened after given delay starting at the timestamp of the last line scanned, so lines already scanned
+     * are not downloaded again.
+     * @param logWatchFunction opens a log watch with timestamps starting at given time (RFC3339) or at the beginning when time is null.
+     * @param message
+     * @param timeout
+     * @param delayBetweenAttempts
+     * @param lineConsumer
+     * @return true when the message has been found within the given timeout.
+     */
+    public static boolean waitForLogMessage(Function<String, LogWatch> logWatchFunction, String message,
+                                            long timeout, long delayBetweenAttempts, Consumer<String> lineConsumer) {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        AtomicReference<String> lastTimestamp = new AtomicReference<>();
+
+        while (stoppingAt - System.currentTimeMillis() > 0) {
+            try (LogWatch logWatch = logWatchFunction.apply(lastTimestamp.get())) {
+                String sinceTime = lastTimestamp.get();
+                CompletableFuture<Boolean> found = CompletableFuture.supplyAsync(
+                        () -> scanLogs(logWatch, message, sinceTime, lastTimestamp, lineConsumer), LOG_EXECUTOR);
+
+                if (found.get(Math.max(stoppingAt - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (KubernetesClientException | ExecutionException e) {
+                LOG.debug("Failed to stream pod logs - retry in " + delayBetweenAttempts + " ms", e);
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for pod logs", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            try {
+                Thread.sleep(Math.min(delayBetweenAttempts, Math.max(stoppingAt - System.currentTimeMillis(), 0L)));
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for pod logs", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads timestamped log lines from given log watch and checks each line for the message. Skips lines that are not newer
+     * than given since time, because the API server resolves the since time in seconds only.
+     * @param logWatch
+     * @param message
+     * @param sinceTime
+     * @param lastTimestamp
+     * @param lineConsumer
+     * @return
+     */
+    private static boolean scanLogs(LogWatch logWatch, String message, String sinceTime, AtomicReference<String> lastTimestamp,
+                                    Consumer<String> lineConsumer) {
+        Instant since = sinceTime != null ? Instant.parse(sinceTime) : null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logWatch.getOutput(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                String timestamp = separator > 0 ? line.substring(0, separator) : null;
+                Instant time = parseTimestamp(timestamp);
+                if (time == null) {
+                    // not a timestamped line - keep the complete line
+                    timestamp = null;
+                } else {
+                    line = line.substring(separator + 1);
+                }
+
+                if (since != null && time != null && !time.isAfter(since)) {
+                    continue;
+                }
+
+                if (timestamp != null) {
+                    lastTimestamp.set(timestamp);
+                }
+
+                lineConsumer.accept(line);
+
+                if (line.contains(message)) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return false;
+    }
+
+    private static Instant parseTimestamp(String timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+
+        try {
+            return Instant.parse(timestamp);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
@@ -22,7 +22,9 @@ package org.citrusframework.yaks.kubernetes;
  */
 public enum KubernetesVariableNames {
 
-    NAMESPACE("KUBERNETES_NAMESPACE");
+    NAMESPACE("KUBERNETES_NAMESPACE"),
+    RUN_ID("YAKS_KUBERNETES_RUN_ID"),
+    CLEANUP("YAKS_KUBERNETES_CLEANUP");
 
     private final String variableName;
 
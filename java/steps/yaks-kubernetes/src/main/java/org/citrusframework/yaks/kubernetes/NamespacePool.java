@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.citrusframework.yaks.hooks.NamespaceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-warmed namespaces leased exclusively to scenarios. Namespaces are created ahead of time on first lease together with
+ * copies of all template resources (service accounts, roles, role bindings, secrets and config maps) labeled with the namespace
+ * pool template label in the default namespace. Released namespaces get recycled asynchronously by purging all resources that
+ * carry a run label and are put back into the pool as soon as the purged resources are gone. Namespaces that could not be purged
+ * completely are not leased again. Pool namespaces are deleted on JVM shutdown.
+ *
+ * The pool is enabled when the namespace pool size setting is greater than zero.
+ *
+ * @author Christoph Deppisch
+ */
+public class NamespacePool implements NamespaceProvider {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(NamespacePool.class);
+
+    /** Label marking namespaces managed by the pool */
+    public static final String POOL_LABEL = "yaks.citrusframework.org/namespace-pool";
+
+    /** Resource types copied from the default namespace to each pool namespace */
+    private static final List<List<String>> TEMPLATE_TYPES = Arrays.asList(
+            Arrays.asList("v1", "ServiceAccount"),
+            Arrays.asList("v1", "Secret"),
+            Arrays.asList("v1", "ConfigMap"),
+            Arrays.asList("rbac.authorization.k8s.io/v1", "Role"),
+            Arrays.asList("rbac.authorization.k8s.io/v1", "RoleBinding"));
+
+    /** Maximum number of namespaces created at the same time */
+    private static final int MAX_THREADS = 10;
+
+    private static final BlockingQueue<String> AVAILABLE = new LinkedBlockingQueue<>();
+    private static final List<String> NAMESPACES = new CopyOnWriteArrayList<>();
+
+    private static volatile boolean initialized;
+
+    @Override
+    public boolean isEnabled() {
+        return KubernetesSettings.getNamespacePoolSize() > 0;
+    }
+
+    @Override
+    public String lease() {
+        initialize(KubernetesClients.shared());
+
+        try {
+            String namespace = AVAILABLE.poll(KubernetesSettings.getNamespacePoolLeaseTimeout(), TimeUnit.MILLISECONDS);
+            if (namespace == null) {
+                throw new CitrusRuntimeException(String.format("Failed to lease namespace from pool - no namespace available after %d ms",
+                        KubernetesSettings.getNamespacePoolLeaseTimeout()));
+            }
+
+            LOG.info(String.format("Leased namespace '%s' from pool", namespace));
+            return namespace;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for namespace from pool", e);
+        }
+    }
+
+    @Override
+    public void release(String namespace) {
+        KubernetesCleanup.purge(KubernetesClients.shared(), namespace)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        LOG.warn(String.format("Failed to recycle namespace '%s' - removing namespace from pool", namespace), error);
+                        return;
+                    }
+
+                    AVAILABLE.offer(namespace);
+                });
+    }
+
+    /**
+     * Creates all pool namespaces in parallel on first access.
+     * @param k8sClient
+     */
+    private static synchronized void initialize(KubernetesClient k8sClient) {
+        if (initialized) {
+            return;
+        }
+
+        int size = KubernetesSettings.getNamespacePoolSize();
+        String poolId = UUID.randomUUID().toString().substring(0, 8);
+        String source = KubernetesSettings.getNamespace();
+
+        LOG.info(String.format("Creating pool of %d namespaces", size));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(size, MAX_THREADS));
+        try {
+            List<CompletableFuture<String>> created = new ArrayList<>();
+            for (int i = 1; i <= size; i++) {
+                String namespace = String.format("%s-%s-%d", KubernetesSettings.getNamespacePoolPrefix(), poolId, i);
+                NAMESPACES.add(namespace);
+                created.add(CompletableFuture.supplyAsync(() -> provision(k8sClient, source, namespace), executor));
+            }
+
+            for (CompletableFuture<String> namespace : created) {
+                AVAILABLE.offer(namespace.get());
+            }
+
+            initialized = true;
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to create namespace pool", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while creating namespace pool", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates namespace and copies template resources from given source namespace.
+     * @param k8sClient
+     * @param source
+     * @param namespace
+     * @return
+     */
+    private static String provision(KubernetesClient k8sClient, String source, String namespace) {
+        Namespace resource = new NamespaceBuilder()
+                .withNewMetadata()
+                    .withName(namespace)
+                    .addToLabels(POOL_LABEL, "true")
+                .endMetadata()
+                .build();
+        k8sClient.namespaces().createOrReplace(resource);
+
+        String templateLabel = KubernetesSettings.getNamespacePoolTemplateLabel();
+        for (List<String> type : TEMPLATE_TYPES) {
+            List<GenericKubernetesResource> templates = k8sClient.genericKubernetesResources(type.get(0), type.get(1))
+                    .inNamespace(source)
+                    .withLabel(templateLabel)
+                    .list()
+                    .getItems();
+
+            for (GenericKubernetesResource template : templates) {
+                if ("kubernetes.io/service-account-token".equals(template.getAdditionalProperties().get("type"))) {
+                    continue;
+                }
+
+                k8sClient.genericKubernetesResources(type.get(0), type.get(1))
+                        .inNamespace(namespace)
+                        .createOrReplace(copy(template, source, namespace));
+            }
+        }
+
+        return namespace;
+    }
+
+    /**
+     * Copies given template resource to the target namespace. Subjects of role bindings that point to the source namespace
+     * are moved to the target namespace, too.
+     * @param template
+     * @param source
+     * @param namespace
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static GenericKubernetesResource copy(GenericKubernetesResource template, String source, String namespace) {
+        GenericKubernetesResource copy = new GenericKubernetesResource();
+        copy.setApiVersion(template.getApiVersion());
+        copy.setKind(template.getKind());
+        copy.setMetadata(new ObjectMetaBuilder()
+                .withName(template.getMetadata().getName())
+                .withNamespace(namespace)
+                .withLabels(template.getMetadata().getLabels())
+                .withAnnotations(template.getMetadata().getAnnotations())
+                .build());
+
+        Map<String, Object> properties = new HashMap<>(template.getAdditionalProperties());
+        if (properties.get("subjects") instanceof List) {
+            List<Map<String, Object>> subjects = new ArrayList<>();
+            for (Map<String, Object> subject : (List<Map<String, Object>>) properties.get("subjects")) {
+                Map<String, Object> moved = new HashMap<>(subject);
+                if (source.equals(moved.get("namespace"))) {
+                    moved.put("namespace", namespace);
+                }
+                subjects.add(moved);
+            }
+            properties.put("subjects", subjects);
+        }
+        properties.forEach(copy::setAdditionalProperty);
+
+        return copy;
+    }
+
+    /**
+     * Deletes all pool namespaces. Called on JVM shutdown before the shared client gets closed.
+     * @param k8sClient
+     */
+    static void shutdown(KubernetesClient k8sClient) {
+        for (String namespace : NAMESPACES) {
+            try {
+                k8sClient.namespaces().withName(namespace)
+                        .withPropagationPolicy(DeletionPropagation.BACKGROUND)
+                        .delete();
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to delete pool namespace '%s'", namespace), e);
+            }
+        }
+
+        NAMESPACES.clear();
+        AVAILABLE.clear();
+    }
+}
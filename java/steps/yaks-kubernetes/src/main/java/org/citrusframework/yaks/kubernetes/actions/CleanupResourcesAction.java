@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import com.consol.citrus.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+
+/**
+ * Deletes all resources labeled with the run id of the current scenario. Uses one collection delete per resource type
+ * and namespace instead of one delete request per resource.
+ *
+ * @author Christoph Deppisch
+ */
+public class CleanupResourcesAction extends AbstractKubernetesAction {
+
+    private final boolean async;
+
+    public CleanupResourcesAction(Builder builder) {
+        super("cleanup-resources", builder);
+        this.async = builder.async;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (!context.getVariables().containsKey(KubernetesVariableNames.RUN_ID.value())) {
+            return;
+        }
+
+        KubernetesCleanup.deleteAll(getKubernetesClient(), context.getVariable(KubernetesVariableNames.RUN_ID.value()), async);
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<CleanupResourcesAction, Builder> {
+
+        private boolean async = KubernetesSettings.isAsyncCleanup();
+
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        @Override
+        public CleanupResourcesAction build() {
+            return new CleanupResourcesAction(this);
+        }
+    }
+}
@@ -18,10 +18,12 @@
 package org.citrusframework.yaks.kubernetes.actions;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
 /**
@@ -47,13 +49,20 @@ public class CreateCustomResourceAction extends AbstractKubernetesAction impleme
 
     @Override
     public void doExecute(TestContext context) {
+        String namespace = namespace(context);
+        String resolvedGroup = context.replaceDynamicContentInString(group);
+        String resolvedVersion = context.replaceDynamicContentInString(version);
+        String resolvedKind = context.replaceDynamicContentInString(kind);
+
         try {
+            Map<String, Object> resource = KubernetesSupport.yaml().load(context.replaceDynamicContentInString(content));
+            addRunLabels(resource, context);
+            KubernetesCleanup.register(context, namespace, resolvedGroup + "/" + resolvedVersion, resolvedKind);
+
             Map<String, Object> resources = getKubernetesClient()
                      .customResource(KubernetesSupport.crdContext(context.replaceDynamicContentInString(type),
-                             context.replaceDynamicContentInString(group),
-                             context.replaceDynamicContentInString(kind),
-                             context.replaceDynamicContentInString(version)))
-                     .createOrReplace(namespace(context), context.replaceDynamicContentInString(content));
+                             resolvedGroup, resolvedKind, resolvedVersion))
+                     .createOrReplace(namespace, resource);
 
             if (resources.get("messages") != null) {
                 throw new CitrusRuntimeException(String.format("Failed to create custom resource - %s", resources.get("messages")));
@@ -63,6 +72,27 @@ public class CreateCustomResourceAction extends AbstractKubernetesAction impleme
         }
     }
 
+    /**
+     * Adds the run labels of the current scenario to the resource metadata.
+     * @param resource
+     * @param context
+     */
+    @SuppressWarnings("unchecked")
+    private void addRunLabels(Map<String, Object> resource, TestContext context) {
+        Map<String, String> runLabels = KubernetesCleanup.runLabels(context);
+        if (runLabels.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> metadata = (Map<String, Object>) resource.computeIfAbsent("metadata", key -> new HashMap<>());
+        Map<String, Object> labels = new HashMap<>();
+        if (metadata.get("labels") instanceof Map) {
+            labels.putAll((Map<String, Object>) metadata.get("labels"));
+        }
+        labels.putAll(runLabels);
+        metadata.put("labels", labels);
+    }
+
     /**
      * Action builder.
      */
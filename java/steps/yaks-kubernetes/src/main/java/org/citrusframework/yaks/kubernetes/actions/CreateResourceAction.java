@@ -19,8 +19,11 @@ package org.citrusframework.yaks.kubernetes.actions;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import com.consol.citrus.context.TestContext;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 
 /**
  * @author Christoph Deppisch
@@ -36,11 +39,18 @@ public class CreateResourceAction extends AbstractKubernetesAction implements Ku
 
     @Override
     public void doExecute(TestContext context) {
-        getKubernetesClient()
+        String namespace = namespace(context);
+        List<HasMetadata> resources = getKubernetesClient()
                  .load(new ByteArrayInputStream(context.replaceDynamicContentInString(content)
                          .getBytes(StandardCharsets.UTF_8)))
-                 .inNamespace(namespace(context))
-                 .createOrReplace();
+                 .get();
+
+        resources.forEach(resource -> KubernetesCleanup.label(resource, namespace, context));
+
+        getKubernetesClient()
+                .resourceList(resources)
+                .inNamespace(namespace)
+                .createOrReplace();
     }
 
     /**
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+
+/**
+ * Creates a set of Kubernetes resources concurrently and optionally waits for all of them to become ready in parallel.
+ * Fails fast on the first resource that can not be created or does not become ready in time. Resources are given as
+ * (multi document) YAML content.
+ *
+ * @author Christoph Deppisch
+ */
+public class CreateResourcesAction extends AbstractKubernetesAction implements KubernetesAction {
+
+    /** Maximum number of resources created at the same time */
+    private static final int MAX_THREADS = 10;
+
+    private final List<String> contents;
+    private final boolean waitForReady;
+    private final long timeout;
+
+    public CreateResourcesAction(Builder builder) {
+        super("create-resources", builder);
+        this.contents = builder.contents;
+        this.waitForReady = builder.waitForReady;
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String namespace = namespace(context);
+
+        List<HasMetadata> resources = new ArrayList<>();
+        for (String content : contents) {
+            resources.addAll(getKubernetesClient()
+                    .load(new ByteArrayInputStream(context.replaceDynamicContentInString(content)
+                            .getBytes(StandardCharsets.UTF_8)))
+                    .get());
+        }
+
+        if (resources.isEmpty()) {
+            return;
+        }
+
+        resources.forEach(resource -> KubernetesCleanup.label(resource, namespace, context));
+
+        LOG.info(String.format("Creating %d Kubernetes resources in parallel", resources.size()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(resources.size(), MAX_THREADS));
+        CompletionService<HasMetadata> completionService = new ExecutorCompletionService<>(executor);
+        long stoppingAt = System.currentTimeMillis() + timeout;
+
+        try {
+            for (HasMetadata resource : resources) {
+                completionService.submit(() -> provision(resource, namespace, stoppingAt));
+            }
+
+            for (int i = 0; i < resources.size(); i++) {
+                Future<HasMetadata> completed = completionService.poll(Math.max(0L, stoppingAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (completed == null) {
+                    throw new ActionTimeoutException(timeout,
+                            new CitrusRuntimeException(String.format("Only %d of %d Kubernetes resources are ready", i, resources.size())));
+                }
+
+                HasMetadata resource = completed.get();
+                LOG.info(String.format("Kubernetes %s '%s' is %s", resource.getKind(), resource.getMetadata().getName(),
+                        waitForReady ? "ready" : "created"));
+            }
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to create Kubernetes resources", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while creating Kubernetes resources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOG.info(String.format("Successfully created %d Kubernetes resources", resources.size()));
+    }
+
+    /**
+     * Creates given resource and waits for the resource to become ready if enabled.
+     * @param resource
+     * @param namespace
+     * @param stoppingAt
+     * @return
+     */
+    private HasMetadata provision(HasMetadata resource, String namespace, long stoppingAt) {
+        HasMetadata created = getKubernetesClient().resource(resource).inNamespace(namespace).createOrReplace();
+
+        if (waitForReady) {
+            return getKubernetesClient().resource(created).inNamespace(namespace)
+                    .waitUntilReady(Math.max(1L, stoppingAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+
+        return created;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<CreateResourcesAction, Builder> {
+
+        private final List<String> contents = new ArrayList<>();
+        private boolean waitForReady = true;
+        private long timeout = KubernetesSettings.getMaxAttempts() * KubernetesSettings.getDelayBetweenAttempts();
+
+        public Builder content(String content) {
+            this.contents.add(content);
+            return this;
+        }
+
+        public Builder contents(List<String> contents) {
+            this.contents.addAll(contents);
+            return this;
+        }
+
+        public Builder waitForReady(boolean enabled) {
+            this.waitForReady = enabled;
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public CreateResourcesAction build() {
+            return new CreateResourcesAction(this);
+        }
+    }
+}
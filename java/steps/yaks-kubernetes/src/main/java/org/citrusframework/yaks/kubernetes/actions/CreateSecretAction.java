@@ -30,6 +30,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.springframework.core.io.Resource;
 
 /**
@@ -75,6 +76,8 @@ public class CreateSecretAction extends AbstractKubernetesAction implements Kube
                 .withData(data)
                 .build();
 
+        KubernetesCleanup.label(secret, namespace(context), context);
+
         getKubernetesClient().secrets()
                 .inNamespace(namespace(context))
                 .createOrReplace(secret);
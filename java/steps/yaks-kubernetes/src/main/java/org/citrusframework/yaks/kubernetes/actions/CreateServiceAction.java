@@ -29,6 +29,7 @@ import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 
 /**
@@ -83,6 +84,8 @@ public class CreateServiceAction extends AbstractKubernetesAction {
                 .endSpec()
                 .build();
 
+        KubernetesCleanup.label(service, namespace(context), context);
+
         Service created = getKubernetesClient().services().inNamespace(namespace(context))
                 .createOrReplace(service);
 
@@ -296,6 +296,26 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
             return builder;
         }
 
+        /**
+         * Create multiple Kubernetes resource instances from yaml in parallel.
+         */
+        public CreateResourcesAction.Builder createAll() {
+            CreateResourcesAction.Builder builder = new CreateResourcesAction.Builder()
+                    .client(kubernetesClient);
+            delegate = builder;
+            return builder;
+        }
+
+        /**
+         * Delete all resources labeled with the run id of the current scenario.
+         */
+        public CleanupResourcesAction.Builder cleanup() {
+            CleanupResourcesAction.Builder builder = new CleanupResourcesAction.Builder()
+                    .client(kubernetesClient);
+            delegate = builder;
+            return builder;
+        }
+
         /**
          * Add annotation on resource instance.
          * @param resourceName the name of the Kubernetes resource.
@@ -29,6 +29,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.citrusframework.yaks.kubernetes.KubernetesResourceCache;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 import org.springframework.util.StringUtils;
@@ -88,6 +89,11 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
      * @return
      */
     private void verifyResource(String name, String labelExpression, String condition, TestContext context) {
+        if (KubernetesSettings.isCacheResources()) {
+            verifyCachedResource(name, labelExpression, condition, context);
+            return;
+        }
+
         for (int i = 0; i < maxAttempts; i++) {
             GenericKubernetesResource resource;
             if (name != null && !name.isEmpty()) {
@@ -106,7 +112,9 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
             try {
                 Thread.sleep(delayBetweenAttempts);
             } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for resource condition", e);
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for resource '%s' in state '%s'",
+                        getNameOrLabel(name, labelExpression), condition), e);
             }
         }
 
@@ -115,6 +123,51 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
                         "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), condition, maxAttempts)));
     }
 
+    /**
+     * Wait for given resource to be in given state using the shared resource cache. Evaluates the resource
+     * state each time the cache receives a change event.
+     * @param name
+     * @param labelExpression
+     * @param condition
+     * @param context
+     */
+    private void verifyCachedResource(String name, String labelExpression, String condition, TestContext context) {
+        KubernetesResourceCache<GenericKubernetesResource> cache =
+                KubernetesResourceCache.resources(getKubernetesClient(), namespace(context), getCrdContext(context));
+
+        long timeout = maxAttempts * delayBetweenAttempts;
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        do {
+            long changes = cache.changes();
+
+            GenericKubernetesResource resource;
+            if (name != null && !name.isEmpty()) {
+                resource = getResource(name, condition, context);
+            } else {
+                resource = getResourceFromLabel(labelExpression, condition, context);
+            }
+
+            if (resource != null) {
+                LOG.info(String.format("Verified resource '%s' state '%s'!", getNameOrLabel(name, labelExpression), condition));
+                return;
+            }
+
+            LOG.info(String.format("Waiting for resource '%s' in state '%s' - waiting for resource changes",
+                    getNameOrLabel(name, labelExpression), condition));
+            try {
+                cache.awaitChange(changes, stoppingAt - System.currentTimeMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for resource '%s' in state '%s'",
+                        getNameOrLabel(name, labelExpression), condition), e);
+            }
+        } while (stoppingAt - System.currentTimeMillis() > 0);
+
+        throw new ActionTimeoutException(timeout,
+                new CitrusRuntimeException(String.format("Failed to verify resource '%s' - " +
+                        "is not in state '%s' after %d ms", getNameOrLabel(name, labelExpression), condition, timeout)));
+    }
+
     /**
      * Retrieve resource given state.
      * @param name
@@ -126,7 +179,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
         GenericKubernetesResource resource = KubernetesSupport.getResource(getKubernetesClient(), namespace(context),
                 getCrdContext(context), name);
 
-        return verifyResourceStatus(resource, condition) ? resource : null;
+        return resource != null && verifyResourceStatus(resource, condition) ? resource : null;
     }
 
     /**
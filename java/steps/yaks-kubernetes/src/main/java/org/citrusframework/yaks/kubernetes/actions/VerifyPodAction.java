@@ -17,11 +17,29 @@
 
 package org.citrusframework.yaks.kubernetes.actions;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
@@ -48,6 +66,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
     private final String phase;
     private final boolean printLogs;
+    private final boolean watch;
 
     /**
      * Constructor using given builder.
@@ -62,6 +81,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
         this.printLogs = builder.printLogs;
+        this.watch = builder.watch;
     }
 
     @Override
@@ -77,7 +97,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     }
 
     /**
-     * Wait for pod to log given message.
+     * Wait for pod to log given message. Streams the pod logs and scans the log lines as they arrive.
      * @param pod
      * @param nameOrLabel
      * @param namespace
@@ -86,47 +106,36 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     private void verifyPodLogs(Pod pod, String nameOrLabel, String namespace, String message) {
         if (printLogs) {
             POD_LOG.info(String.format("Waiting for pod '%s' to log message", nameOrLabel));
+        } else {
+            LOG.info(String.format("Waiting for pod '%s' to log message", nameOrLabel));
         }
 
-        String log;
-        int offset = 0;
-
-        for (int i = 0; i < maxAttempts; i++) {
-            log = getPodLogs(pod, namespace);
-
-            if (printLogs && (offset < log.length())) {
-                POD_LOG.info(log.substring(offset));
-                offset = log.length();
-            }
-
-            if (log.contains(message)) {
-                LOG.info("Verified pod logs - All values OK!");
-                return;
-            }
-
-            if (!printLogs) {
-                LOG.info(String.format("Waiting for pod '%s' to log message - retry in %s ms", nameOrLabel, delayBetweenAttempts));
-            }
+        long timeout = maxAttempts * delayBetweenAttempts;
+        boolean found = KubernetesSupport.waitForLogMessage(sinceTime -> watchPodLogs(pod, namespace, sinceTime), message,
+                timeout, delayBetweenAttempts, line -> {
+                    if (printLogs) {
+                        POD_LOG.info(line);
+                    }
+                });
 
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for pod logs", e);
-            }
+        if (found) {
+            LOG.info("Verified pod logs - All values OK!");
+            return;
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(timeout,
                 new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "has not printed message '%s' after %d attempts", nameOrLabel, logMessage, maxAttempts)));
+                        "has not printed message '%s' after %d ms", nameOrLabel, logMessage, timeout)));
     }
 
     /**
-     * Retrieve log messages from given pod.
+     * Open log watch with timestamps on given pod.
      * @param pod
      * @param namespace
+     * @param sinceTime optional RFC3339 timestamp to start the log stream at.
      * @return
      */
-    private String getPodLogs(Pod pod, String namespace) {
+    private LogWatch watchPodLogs(Pod pod, String namespace, String sinceTime) {
         PodResource<Pod> podRes = getKubernetesClient().pods()
                 .inNamespace(namespace)
                 .withName(pod.getMetadata().getName());
@@ -136,13 +145,19 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             containerName = pod.getSpec().getContainers().get(0).getName();
         }
 
-        String logs;
         if (containerName != null) {
-            logs = podRes.inContainer(containerName).getLog();
+            if (sinceTime != null) {
+                return podRes.inContainer(containerName).usingTimestamps().sinceTime(sinceTime).watchLog();
+            }
+
+            return podRes.inContainer(containerName).usingTimestamps().watchLog();
         } else {
-            logs = podRes.getLog();
+            if (sinceTime != null) {
+                return podRes.usingTimestamps().sinceTime(sinceTime).watchLog();
+            }
+
+            return podRes.usingTimestamps().watchLog();
         }
-        return logs;
     }
 
     /**
@@ -156,6 +171,10 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     private Pod verifyPod(String name, String labelExpression, String phase, String namespace) {
         POD_STATUS_LOG.info(String.format("Waiting for pod '%s' to be in state '%s'", name, phase));
 
+        if (watch) {
+            return watchPod(name, labelExpression, phase, namespace);
+        }
+
         for (int i = 0; i < maxAttempts; i++) {
             Pod pod;
             if (name != null && !name.isEmpty()) {
@@ -171,11 +190,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
             LOG.info(String.format("Waiting for pod '%s' in state '%s' - retry in %s ms",
                     getNameOrLabel(name, labelExpression), phase, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for pod state", e);
-            }
+            sleep(delayBetweenAttempts, getNameOrLabel(name, labelExpression));
         }
 
         throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
@@ -183,6 +198,132 @@ public class VerifyPodAction extends AbstractKubernetesAction {
                         "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, maxAttempts)));
     }
 
+    /**
+     * Wait for given pod to be in given state using the Kubernetes watch API. Lists the matching pods first in order to
+     * evaluate the current state and then watches for changes starting at the resource version of that list. The watch is
+     * restarted when closed by the server. Uses the same overall timeout as the polling mechanism.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @param namespace
+     * @return
+     */
+    private Pod watchPod(String name, String labelExpression, String phase, String namespace) {
+        String nameOrLabel = getNameOrLabel(name, labelExpression);
+        long timeout = maxAttempts * delayBetweenAttempts;
+        long stoppingAt = System.currentTimeMillis() + timeout;
+
+        while (stoppingAt - System.currentTimeMillis() > 0) {
+            FilterWatchListDeletable<Pod, PodList> pods = selectPods(name, labelExpression, namespace);
+            PodList podList = pods.list();
+
+            Optional<Pod> verified = podList.getItems().stream()
+                    .filter(pod -> KubernetesSupport.verifyPodStatus(pod, phase))
+                    .findFirst();
+
+            if (verified.isPresent()) {
+                LOG.info(String.format("Verified pod '%s' state '%s'!", nameOrLabel, phase));
+                return verified.get();
+            }
+
+            Map<String, Pod> candidates = new ConcurrentHashMap<>();
+            podList.getItems().forEach(pod -> candidates.put(pod.getMetadata().getName(), pod));
+            verifyNoFailure(candidates.values(), nameOrLabel, phase);
+
+            POD_STATUS_LOG.info(String.format("Pod '%s' not yet in state '%s'. Watching for changes ...", nameOrLabel, phase));
+
+            CompletableFuture<Pod> result = new CompletableFuture<>();
+            ListOptions options = new ListOptionsBuilder()
+                    .withResourceVersion(podList.getMetadata() != null ? podList.getMetadata().getResourceVersion() : null)
+                    .build();
+
+            try (Watch ignored = pods.watch(options, new Watcher<Pod>() {
+                @Override
+                public void eventReceived(Action action, Pod pod) {
+                    if (action == Action.DELETED) {
+                        candidates.remove(pod.getMetadata().getName());
+                        return;
+                    }
+
+                    candidates.put(pod.getMetadata().getName(), pod);
+
+                    // complete the watch when all candidates have failed so the verification is able to fail fast
+                    if (KubernetesSupport.verifyPodStatus(pod, phase)
+                            || isRunningPhase(phase) && KubernetesSupport.getUnrecoverablePod(candidates.values()).isPresent()) {
+                        result.complete(pod);
+                    }
+                }
+
+                @Override
+                public void onClose(WatcherException cause) {
+                    result.completeExceptionally(cause != null ? cause : new KubernetesClientException("Pod watch closed"));
+                }
+            })) {
+                Pod pod = result.get(Math.max(stoppingAt - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+                if (KubernetesSupport.verifyPodStatus(pod, phase)) {
+                    LOG.info(String.format("Verified pod '%s' state '%s'!", nameOrLabel, phase));
+                    return pod;
+                }
+
+                verifyNoFailure(candidates.values(), nameOrLabel, phase);
+            } catch (TimeoutException e) {
+                break;
+            } catch (ExecutionException e) {
+                long backoff = Math.min(delayBetweenAttempts, Math.max(stoppingAt - System.currentTimeMillis(), 0L));
+                LOG.info(String.format("Watch for pod '%s' closed unexpectedly - restarting watch in %d ms", nameOrLabel, backoff));
+                sleep(backoff, nameOrLabel);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for pod '%s' state", nameOrLabel), e);
+            }
+        }
+
+        throw new ActionTimeoutException(timeout,
+                new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                        "is not in state '%s' after %d ms", nameOrLabel, phase, timeout)));
+    }
+
+    /**
+     * Sleep given time before next attempt. Restores the interrupt flag and fails when interrupted.
+     * @param millis
+     * @param nameOrLabel
+     */
+    private void sleep(long millis, String nameOrLabel) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for pod '%s' state", nameOrLabel), e);
+        }
+    }
+
+    /**
+     * Select pods either by name or by label key and value expression.
+     * @param name
+     * @param labelExpression
+     * @param namespace
+     * @return
+     */
+    private FilterWatchListDeletable<Pod, PodList> selectPods(String name, String labelExpression, String namespace) {
+        if (name != null && !name.isEmpty()) {
+            return getKubernetesClient().pods()
+                    .inNamespace(namespace)
+                    .withField("metadata.name", name);
+        }
+
+        if (labelExpression == null || labelExpression.isEmpty()) {
+            throw new CitrusRuntimeException("Missing pod name or label expression for pod verification");
+        }
+
+        String[] tokens = labelExpression.split("=");
+        String labelKey = tokens[0];
+        String labelValue = tokens.length > 1 ? tokens[1] : "";
+
+        return getKubernetesClient().pods()
+                .inNamespace(namespace)
+                .withLabel(labelKey, labelValue);
+    }
+
     /**
      * Retrieve pod given state.
      * @param name
@@ -199,6 +340,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         boolean verified = KubernetesSupport.verifyPodStatus(pod, phase);
 
         if (!verified) {
+            verifyNoFailure(pod != null ? Collections.singletonList(pod) : Collections.emptyList(), name, phase);
             POD_STATUS_LOG.info(String.format("Pod '%s' not yet in state '%s'. Will keep checking ...", name, phase));
         }
 
@@ -230,18 +372,40 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             POD_STATUS_LOG.info(String.format("Integration with label '%s' not yet available. Will keep checking ...", labelExpression));
         }
 
-        return pods.getItems().stream()
-                .filter(pod -> {
-                    boolean verified = KubernetesSupport.verifyPodStatus(pod, phase);
+        Optional<Pod> verified = pods.getItems().stream()
+                .filter(pod -> KubernetesSupport.verifyPodStatus(pod, phase))
+                .findFirst();
 
-                    if (!verified) {
-                        POD_STATUS_LOG.info(String.format("Pod with label '%s' not yet in state '%s'. Will keep checking ...", labelExpression, phase));
-                    }
+        if (!verified.isPresent()) {
+            verifyNoFailure(pods.getItems(), labelExpression, phase);
+            POD_STATUS_LOG.info(String.format("Pod with label '%s' not yet in state '%s'. Will keep checking ...", labelExpression, phase));
+        }
 
-                    return verified;
-                })
-                .findFirst()
-                .orElse(null);
+        return verified.orElse(null);
+    }
+
+    /**
+     * Fails immediately when pods are expected to be running but none of the candidate pods is able to become ready anymore.
+     * Error message includes the last container states and the tail of the pod logs of a failed pod.
+     * @param candidates
+     * @param nameOrLabel
+     * @param phase
+     */
+    private void verifyNoFailure(Collection<Pod> candidates, String nameOrLabel, String phase) {
+        if (!isRunningPhase(phase)) {
+            return;
+        }
+
+        Optional<Pod> failed = KubernetesSupport.getUnrecoverablePod(candidates);
+        if (failed.isPresent()) {
+            throw new CitrusRuntimeException(String.format("Failed to verify pod '%s' - %s%n%s",
+                    nameOrLabel, KubernetesSupport.getPodFailure(failed.get()).orElse("pod failed"),
+                    KubernetesSupport.getPodDiagnostics(getKubernetesClient(), failed.get())));
+        }
+    }
+
+    private static boolean isRunningPhase(String phase) {
+        return "Running".equals(phase);
     }
 
     /**
@@ -272,6 +436,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
         private String phase = "Running";
         private boolean printLogs = true;
+        private boolean watch = KubernetesSettings.isWatchPodStatus();
 
         public Builder isRunning() {
             this.phase = "Running";
@@ -288,6 +453,11 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             return this;
         }
 
+        public Builder watch(boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+
         public Builder podName(String podName) {
             this.podName = podName;
             return this;
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.HashMap;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KubernetesCleanupTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldNotRegisterWhenCleanupDisabled() {
+        String runId = KubernetesCleanup.runId(context);
+        createConfigMap("disabled");
+
+        KubernetesCleanup.deleteAll(k8sClient, runId, false);
+
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("disabled").get()).isNotNull();
+    }
+
+    @Test
+    public void shouldDeleteLabeledResourcesBeforeNextScenario() {
+        KubernetesCleanup.enable(context);
+        String runId = KubernetesCleanup.runId(context);
+        createConfigMap("enabled");
+
+        ConfigMap other = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("other")
+                    .withNamespace("test")
+                .endMetadata()
+                .build();
+        k8sClient.configMaps().inNamespace("test").create(other);
+
+        KubernetesCleanup.deleteAll(k8sClient, runId, false);
+
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("enabled").get()).isNull();
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("other").get()).isNotNull();
+    }
+
+    @Test
+    public void shouldPurgeNamespaceBeforeRelease() {
+        KubernetesCleanup.runId(context);
+        createConfigMap("scenario");
+
+        ConfigMap template = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("template")
+                    .withNamespace("test")
+                .endMetadata()
+                .build();
+        k8sClient.configMaps().inNamespace("test").create(template);
+
+        KubernetesCleanup.purge(k8sClient, "test").join();
+
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("scenario").get()).isNull();
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("template").get()).isNotNull();
+    }
+
+    private void createConfigMap(String name) {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withApiVersion("v1")
+                .withKind("ConfigMap")
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("test")
+                .endMetadata()
+                .build();
+
+        KubernetesCleanup.label(configMap, "test", context);
+        k8sClient.configMaps().inNamespace("test").create(configMap);
+    }
+}
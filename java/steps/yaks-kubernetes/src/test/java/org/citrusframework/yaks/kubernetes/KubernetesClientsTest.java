@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import okhttp3.OkHttpClient;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KubernetesClientsTest {
+
+    @After
+    public void cleanup() {
+        System.clearProperty("yaks.kubernetes.client.max.concurrent.requests");
+        System.clearProperty("yaks.kubernetes.client.max.concurrent.requests.per.host");
+        System.clearProperty("yaks.kubernetes.client.request.timeout");
+        System.clearProperty("yaks.kubernetes.client.http2");
+        KubernetesClients.close();
+    }
+
+    @Test
+    public void shouldShareClient() {
+        KubernetesClient client = KubernetesClients.shared();
+
+        Assertions.assertThat(KubernetesClients.shared()).isSameAs(client);
+
+        KubernetesClients.close();
+        Assertions.assertThat(KubernetesClients.shared()).isNotSameAs(client);
+    }
+
+    @Test
+    public void shouldApplyClientSettings() {
+        System.setProperty("yaks.kubernetes.client.max.concurrent.requests", "32");
+        System.setProperty("yaks.kubernetes.client.max.concurrent.requests.per.host", "8");
+        System.setProperty("yaks.kubernetes.client.request.timeout", "5000");
+        System.setProperty("yaks.kubernetes.client.http2", "false");
+
+        try (KubernetesClient client = KubernetesClients.create()) {
+            Assertions.assertThat(client.getConfiguration().getMaxConcurrentRequests()).isEqualTo(32);
+            Assertions.assertThat(client.getConfiguration().getMaxConcurrentRequestsPerHost()).isEqualTo(8);
+            Assertions.assertThat(client.getConfiguration().getRequestTimeout()).isEqualTo(5000);
+            Assertions.assertThat(client.getConfiguration().isHttp2Disable()).isTrue();
+
+            OkHttpClient httpClient = ((DefaultKubernetesClient) client).getHttpClient();
+            Assertions.assertThat(httpClient.dispatcher().getMaxRequests()).isEqualTo(32);
+            Assertions.assertThat(httpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(8);
+        }
+    }
+}
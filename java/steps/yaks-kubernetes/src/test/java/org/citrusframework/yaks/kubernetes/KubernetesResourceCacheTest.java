@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KubernetesResourceCacheTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        KubernetesResourceCache.stopAll();
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldShareCachePerNamespaceAndType() {
+        KubernetesResourceCache<Pod> cache = KubernetesResourceCache.pods(k8sClient, "test");
+
+        Assertions.assertThat(KubernetesResourceCache.pods(k8sClient, "test")).isSameAs(cache);
+        Assertions.assertThat(KubernetesResourceCache.pods(k8sClient, "other")).isNotSameAs(cache);
+    }
+
+    @Test
+    public void shouldServeResourcesFromCache() throws InterruptedException {
+        KubernetesResourceCache<Pod> cache = KubernetesResourceCache.pods(k8sClient, "test");
+        Assertions.assertThat(cache.list()).isEmpty();
+
+        long changes = cache.changes();
+        k8sClient.pods().inNamespace("test").create(new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-pod")
+                    .addToLabels("app", "yaks")
+                .endMetadata()
+                .build());
+
+        cache.awaitChange(changes, 10000L);
+
+        Assertions.assertThat(cache.get("my-pod")).isPresent();
+        Assertions.assertThat(cache.list("app", "yaks")).hasSize(1);
+        Assertions.assertThat(cache.list("app", "other")).isEmpty();
+    }
+
+    @Test
+    public void shouldStartInformerOutsideCacheMap() {
+        KubernetesResourceCache<Pod> cache = KubernetesResourceCache.<Pod>of(k8sClient, "test", "pods", () -> {
+            // starting another cache while creating this informer must not run into the locked cache map
+            KubernetesResourceCache.pods(k8sClient, "other");
+            return k8sClient.pods().inNamespace("test").runnableInformer(0L);
+        });
+
+        Assertions.assertThat(KubernetesResourceCache.pods(k8sClient, "test")).isSameAs(cache);
+        Assertions.assertThat(cache.get("unknown")).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRestoreInterruptAndRemoveCacheWhenSyncFails() {
+        AtomicInteger informers = new AtomicInteger();
+        SharedIndexInformer<Pod> informer = Mockito.mock(SharedIndexInformer.class);
+        Mockito.when(informer.hasSynced()).thenReturn(false);
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThatExceptionOfType(CitrusRuntimeException.class)
+                    .isThrownBy(() -> KubernetesResourceCache.<Pod>of(k8sClient, "test", "pods", () -> {
+                        informers.incrementAndGet();
+                        return informer;
+                    }));
+
+            Assertions.assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+
+        Mockito.verify(informer).run();
+        Mockito.verify(informer).stop();
+
+        Mockito.when(informer.hasSynced()).thenReturn(true);
+        KubernetesResourceCache.<Pod>of(k8sClient, "test", "pods", () -> {
+            informers.incrementAndGet();
+            return informer;
+        });
+
+        Assertions.assertThat(informers.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KubernetesSupportTest {
+
+    @Test
+    public void shouldNotFailWhileCandidateMayBecomeReady() {
+        Pod crashing = pod("crashing", "CrashLoopBackOff");
+        Pod starting = pod("starting", "ContainerCreating");
+
+        assertThat(KubernetesSupport.getUnrecoverablePod(Arrays.asList(crashing, starting))).isEmpty();
+    }
+
+    @Test
+    public void shouldFailWhenAllCandidatesFailed() {
+        Pod crashing = pod("crashing", "CrashLoopBackOff");
+        Pod pullError = pod("pull-error", "ImagePullBackOff");
+
+        assertThat(KubernetesSupport.getUnrecoverablePod(Arrays.asList(crashing, pullError))).isPresent();
+        assertThat(KubernetesSupport.getPodFailure(crashing)).hasValueSatisfying(failure -> assertThat(failure).contains("CrashLoopBackOff"));
+    }
+
+    @Test
+    public void shouldNotFailWithoutCandidates() {
+        assertThat(KubernetesSupport.getUnrecoverablePod(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void shouldIgnoreRestartCountByDefault() {
+        Pod restarted = new PodBuilder()
+                .withNewMetadata().withName("restarted").endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .addNewContainerStatus()
+                        .withName("app")
+                        .withReady(false)
+                        .withRestartCount(10)
+                        .withNewState().withNewRunning().endRunning().endState()
+                    .endContainerStatus()
+                .endStatus()
+                .build();
+
+        assertThat(KubernetesSupport.getPodFailure(restarted)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldKeepEmptyValuesOnResourceConversion() {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withNewMetadata().withName("config").endMetadata()
+                .addToData("empty", "")
+                .build();
+
+        GenericKubernetesResource resource = KubernetesSupport.toGenericResource(configMap);
+
+        assertThat((Map<String, String>) resource.getAdditionalProperties().get("data")).containsEntry("empty", "");
+        assertThat(resource.getAdditionalProperties()).doesNotContainKey("binaryData");
+    }
+
+    private static Pod pod(String name, String waitingReason) {
+        return new PodBuilder()
+                .withNewMetadata().withName(name).endMetadata()
+                .withNewStatus()
+                    .withPhase("Pending")
+                    .addNewContainerStatus()
+                        .withName("app")
+                        .withReady(false)
+                        .withRestartCount(0)
+                        .withNewState().withNewWaiting().withReason(waitingReason).endWaiting().endState()
+                    .endContainerStatus()
+                .endStatus()
+                .build();
+    }
+}
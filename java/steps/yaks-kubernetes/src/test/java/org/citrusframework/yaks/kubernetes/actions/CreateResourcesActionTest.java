@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.HashMap;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.assertj.core.api.Assertions;
+import org.citrusframework.yaks.kubernetes.KubernetesCleanup;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CreateResourcesActionTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), "test");
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldCreateAllResources() {
+        String runId = KubernetesCleanup.runId(context);
+
+        CreateResourcesAction action = new CreateResourcesAction.Builder()
+                .client(k8sClient)
+                .content(configMap("first") + "---\n" + configMap("second"))
+                .content(configMap("third"))
+                .waitForReady(false)
+                .build();
+
+        action.execute(context);
+
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").list().getItems()).hasSize(3);
+
+        ConfigMap first = k8sClient.configMaps().inNamespace("test").withName("first").get();
+        Assertions.assertThat(first.getMetadata().getLabels()).containsEntry(KubernetesCleanup.RUN_LABEL, runId);
+    }
+
+    @Test
+    public void shouldResolveTestVariables() {
+        context.setVariable("name", "resolved");
+
+        new CreateResourcesAction.Builder()
+                .client(k8sClient)
+                .content(configMap("${name}"))
+                .waitForReady(false)
+                .build()
+                .execute(context);
+
+        Assertions.assertThat(k8sClient.configMaps().inNamespace("test").withName("resolved").get()).isNotNull();
+    }
+
+    private static String configMap(String name) {
+        return "apiVersion: v1\n" +
+                "kind: ConfigMap\n" +
+                "metadata:\n" +
+                "  name: " + name + "\n" +
+                "data:\n" +
+                "  key: value\n";
+    }
+}
@@ -88,7 +88,7 @@ public class OpenApiClientSteps {
 
     @When("^(?:send|invoke) operation: (.+)$")
     public void invokeOperation(String operationId) {
-        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.openApiDoc.paths)) {
+        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.getOpenApiDoc().paths)) {
             Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
                     .filter(op -> operationId.equals(op.getValue().operationId))
                     .findFirst();
@@ -125,7 +125,7 @@ public class OpenApiClientSteps {
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> clientSteps.addRequestHeader(param.getName(),
                             OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false, context)));
 
             operation.parameters.stream()
                     .filter(param -> "query".equals(param.in))
@@ -134,14 +134,14 @@ public class OpenApiClientSteps {
                             OpenApiTestDataGenerator.createRandomValueExpression(param.getName(), (OasSchema) param.schema, context)));
         }
 
-        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.openApiDoc, operation);
+        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.getOpenApiDoc(), operation);
         if (body.isPresent()) {
-            clientSteps.setRequestBody(OpenApiTestDataGenerator.createOutboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+            clientSteps.setRequestBody(OpenApiTestDataGenerator.createOutboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc())));
 
             if (OasModelHelper.isReferenceType(body.get())
                     || OasModelHelper.isObjectType(body.get())
                     || OasModelHelper.isArrayType(body.get())) {
-                clientSteps.setOutboundDictionary(OpenApiSteps.outboundDictionary);
+                clientSteps.setOutboundDictionary(OpenApiSteps.getOutboundDictionary());
             }
         }
 
@@ -167,7 +167,7 @@ public class OpenApiClientSteps {
         Optional<String> contentType = OasModelHelper.getRequestContentType(operation);
         contentType.ifPresent(s -> clientSteps.addRequestHeader(HttpHeaders.CONTENT_TYPE, s));
 
-        clientSteps.setUrl(OpenApiSteps.openApiUrl);
+        clientSteps.setUrl(OpenApiSteps.getOpenApiUrl());
         clientSteps.sendClientRequest(method.toUpperCase(), randomizedPath);
     }
 
@@ -184,7 +184,7 @@ public class OpenApiClientSteps {
             if (response != null) {
                 Map<String, OasSchema> requiredHeaders = OasModelHelper.getRequiredHeaders(response);
                 for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
-                    clientSteps.addResponseHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context));
+                    clientSteps.addResponseHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false, context));
                 }
 
                 Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
@@ -196,18 +196,18 @@ public class OpenApiClientSteps {
 
                 Optional<OasSchema> responseSchema = OasModelHelper.getSchema(response);
                 if (responseSchema.isPresent()) {
-                    clientSteps.setResponseBody(OpenApiTestDataGenerator.createInboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+                    clientSteps.setResponseBody(OpenApiTestDataGenerator.createInboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc())));
 
                     if (OasModelHelper.isReferenceType(responseSchema.get())
                             || OasModelHelper.isObjectType(responseSchema.get())
                             || OasModelHelper.isArrayType(responseSchema.get())) {
-                        clientSteps.setInboundDictionary(OpenApiSteps.inboundDictionary);
+                        clientSteps.setInboundDictionary(OpenApiSteps.getInboundDictionary());
                     }
                 }
             }
         }
 
-        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.openApiDoc, operation);
+        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.getOpenApiDoc(), operation);
         contentType.ifPresent(s -> clientSteps.addResponseHeader(HttpHeaders.CONTENT_TYPE, s));
 
         if (Pattern.compile("[0-9]+").matcher(status).matches()) {
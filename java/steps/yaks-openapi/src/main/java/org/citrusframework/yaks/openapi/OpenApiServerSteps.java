@@ -97,7 +97,7 @@ public class OpenApiServerSteps {
 
     @When("^(?:receive|expect|verify) operation: (.+)$")
     public void receiveOperation(String operationId) {
-        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.openApiDoc.paths)) {
+        for (OasPathItem path : OasModelHelper.getPathItems(OpenApiSteps.getOpenApiDoc().paths)) {
             Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
                     .filter(op -> operationId.equals(op.getValue().operationId))
                     .findFirst();
@@ -134,28 +134,28 @@ public class OpenApiServerSteps {
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> httpServerSteps.addRequestHeader(param.getName(),
                             OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false, context)));
 
             operation.parameters.stream()
                     .filter(param -> "query".equals(param.in))
                     .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
                     .forEach(param -> httpServerSteps.addRequestQueryParam(param.getName(),
                             OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context)));
+                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false, context)));
         }
 
-        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.openApiDoc, operation);
+        Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(OpenApiSteps.getOpenApiDoc(), operation);
         if (body.isPresent()) {
-            httpServerSteps.setRequestBody(OpenApiTestDataGenerator.createInboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+            httpServerSteps.setRequestBody(OpenApiTestDataGenerator.createInboundPayload(body.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc())));
 
             if (OasModelHelper.isReferenceType(body.get())
                     || OasModelHelper.isObjectType(body.get())
                     || OasModelHelper.isArrayType(body.get())) {
-                httpServerSteps.setInboundDictionary(OpenApiSteps.inboundDictionary);
+                httpServerSteps.setInboundDictionary(OpenApiSteps.getInboundDictionary());
             }
         }
 
-        String randomizedPath = OasModelHelper.getBasePath(OpenApiSteps.openApiDoc) + path;
+        String randomizedPath = OasModelHelper.getBasePath(OpenApiSteps.getOpenApiDoc()) + path;
         randomizedPath = randomizedPath.replaceAll("//", "/");
 
         if (operation.parameters != null) {
@@ -168,7 +168,7 @@ public class OpenApiServerSteps {
                 if (context.getVariables().containsKey(parameter.getName())) {
                     parameterValue = "\\" + CitrusSettings.VARIABLE_PREFIX + parameter.getName() + CitrusSettings.VARIABLE_SUFFIX;
                 } else {
-                    parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema, OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false);
+                    parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema, OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false);
                 }
                 randomizedPath = Pattern.compile("\\{" + parameter.getName() + "}")
                                         .matcher(randomizedPath)
@@ -197,7 +197,7 @@ public class OpenApiServerSteps {
                 for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
                     httpServerSteps.addResponseHeader(header.getKey(),
                             OpenApiTestDataGenerator.createRandomValueExpression(header.getKey(), header.getValue(),
-                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc), false, context));
+                                    OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc()), false, context));
                 }
 
                 Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
@@ -209,18 +209,18 @@ public class OpenApiServerSteps {
 
                 Optional<OasSchema> responseSchema = OasModelHelper.getSchema(response);
                 if (responseSchema.isPresent()) {
-                    httpServerSteps.setResponseBody(OpenApiTestDataGenerator.createOutboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.openApiDoc)));
+                    httpServerSteps.setResponseBody(OpenApiTestDataGenerator.createOutboundPayload(responseSchema.get(), OasModelHelper.getSchemaDefinitions(OpenApiSteps.getOpenApiDoc())));
 
                     if (OasModelHelper.isReferenceType(responseSchema.get())
                             || OasModelHelper.isObjectType(responseSchema.get())
                             || OasModelHelper.isArrayType(responseSchema.get())) {
-                        httpServerSteps.setOutboundDictionary(OpenApiSteps.outboundDictionary);
+                        httpServerSteps.setOutboundDictionary(OpenApiSteps.getOutboundDictionary());
                     }
                 }
             }
         }
 
-        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.openApiDoc, operation);
+        Optional<String> contentType = OasModelHelper.getResponseContentType(OpenApiSteps.getOpenApiDoc(), operation);
         contentType.ifPresent(s -> httpServerSteps.addResponseHeader(HttpHeaders.CONTENT_TYPE, s));
 
         if (Pattern.compile("[0-9]+").matcher(status).matches()) {
@@ -30,6 +30,7 @@ import com.consol.citrus.variable.dictionary.AbstractDataDictionary;
 import com.consol.citrus.variable.dictionary.json.JsonPathMappingDataDictionary;
 import io.apicurio.datamodels.openapi.models.OasDocument;
 import io.cucumber.datatable.DataTable;
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
@@ -42,44 +43,60 @@ import org.springframework.core.io.Resource;
  */
 public class OpenApiSteps {
 
-    static OasDocument openApiDoc;
-
-    static String openApiUrl;
+    /**
+     * Scenario state is bound to the executing thread so scenarios are able to run in parallel.
+     */
+    private static final ThreadLocal<OasDocument> OPEN_API_DOC = new ThreadLocal<>();
+    private static final ThreadLocal<String> OPEN_API_URL = new ThreadLocal<>();
 
-    static AbstractDataDictionary<String> outboundDictionary;
-    static AbstractDataDictionary<String> inboundDictionary;
+    private static final ThreadLocal<AbstractDataDictionary<String>> OUTBOUND_DICTIONARY = new ThreadLocal<>();
+    private static final ThreadLocal<AbstractDataDictionary<String>> INBOUND_DICTIONARY = new ThreadLocal<>();
 
-    static boolean generateOptionalFields = OpenApiSettings.isGenerateOptionalFields();
-    static boolean validateOptionalFields = OpenApiSettings.isValidateOptionalFields();
+    private static final ThreadLocal<Boolean> GENERATE_OPTIONAL_FIELDS = ThreadLocal.withInitial(OpenApiSettings::isGenerateOptionalFields);
+    private static final ThreadLocal<Boolean> VALIDATE_OPTIONAL_FIELDS = ThreadLocal.withInitial(OpenApiSettings::isValidateOptionalFields);
 
     @Before
     public void before(Scenario scenario) {
-        outboundDictionary = new JsonPathMappingDataDictionary();
-        inboundDictionary = new JsonPathMappingDataDictionary();
+        OUTBOUND_DICTIONARY.set(new JsonPathMappingDataDictionary());
+        INBOUND_DICTIONARY.set(new JsonPathMappingDataDictionary());
+    }
+
+    @After
+    public void after(Scenario scenario) {
+        // release scenario state so pooled worker threads do not leak it into the next scenario
+        OPEN_API_DOC.remove();
+        OPEN_API_URL.remove();
+        OUTBOUND_DICTIONARY.remove();
+        INBOUND_DICTIONARY.remove();
+        GENERATE_OPTIONAL_FIELDS.remove();
+        VALIDATE_OPTIONAL_FIELDS.remove();
     }
 
     @Given("^Disable OpenAPI generate optional fields$")
     public void disableGenerateOptionalFields() {
-        generateOptionalFields = false;
+        GENERATE_OPTIONAL_FIELDS.set(false);
     }
 
     @Given("^Enable OpenAPI generate optional fields$")
     public void enableGenerateOptionalFields() {
-        generateOptionalFields = true;
+        GENERATE_OPTIONAL_FIELDS.set(true);
     }
 
     @Given("^Disable OpenAPI validate optional fields$")
     public void disableValidateOptionalFields() {
-        validateOptionalFields = false;
+        VALIDATE_OPTIONAL_FIELDS.set(false);
     }
 
     @Given("^Enable OpenAPI validate optional fields$")
     public void enableValidateOptionalFields() {
-        validateOptionalFields = true;
+        VALIDATE_OPTIONAL_FIELDS.set(true);
     }
 
     @Given("^OpenAPI (?:specification|resource): ([^\\s]+)$")
     public void loadOpenApiResource(String resource) {
+        OasDocument openApiDoc;
+        String openApiUrl;
+
         if (resource.startsWith("http")) {
             try {
                 URL url = new URL(resource);
@@ -104,32 +121,35 @@ public class OpenApiSteps {
 
             openApiUrl = String.format("%s://%s%s", schemeToUse, OasModelHelper.getHost(openApiDoc), OasModelHelper.getBasePath(openApiDoc));
         }
+
+        OPEN_API_DOC.set(openApiDoc);
+        OPEN_API_URL.set(openApiUrl);
     }
 
     @Given("^OpenAPI outbound dictionary$")
     public void createOutboundDictionary(DataTable dataTable) {
         Map<String, String> mappings = dataTable.asMap(String.class, String.class);
         for (Map.Entry<String, String> mapping : mappings.entrySet()) {
-            outboundDictionary.getMappings().put(mapping.getKey(), mapping.getValue());
+            getOutboundDictionary().getMappings().put(mapping.getKey(), mapping.getValue());
         }
     }
 
     @Given("^load OpenAPI outbound dictionary ([^\\s]+)$")
     public void createOutboundDictionary(String fileName) {
-        addMappingsFromFile(fileName, outboundDictionary);
+        addMappingsFromFile(fileName, getOutboundDictionary());
     }
 
     @Given("^OpenAPI inbound dictionary$")
     public void createInboundDictionary(DataTable dataTable) {
         Map<String, String> mappings = dataTable.asMap(String.class, String.class);
         for (Map.Entry<String, String> mapping : mappings.entrySet()) {
-            inboundDictionary.getMappings().put(mapping.getKey(), mapping.getValue());
+            getInboundDictionary().getMappings().put(mapping.getKey(), mapping.getValue());
         }
     }
 
     @Given("^load OpenAPI inbound dictionary ([^\\s]+)$")
     public void createInboundDictionary(String fileName) {
-        addMappingsFromFile(fileName, inboundDictionary);
+        addMappingsFromFile(fileName, getInboundDictionary());
     }
 
     /**
@@ -150,4 +170,28 @@ public class OpenApiSteps {
             throw new CitrusRuntimeException(String.format("Failed to load dictionary from resource %s", fileName));
         }
     }
+
+    static OasDocument getOpenApiDoc() {
+        return OPEN_API_DOC.get();
+    }
+
+    static String getOpenApiUrl() {
+        return OPEN_API_URL.get();
+    }
+
+    static AbstractDataDictionary<String> getOutboundDictionary() {
+        return OUTBOUND_DICTIONARY.get();
+    }
+
+    static AbstractDataDictionary<String> getInboundDictionary() {
+        return INBOUND_DICTIONARY.get();
+    }
+
+    static boolean isGenerateOptionalFields() {
+        return GENERATE_OPTIONAL_FIELDS.get();
+    }
+
+    static boolean isValidateOptionalFields() {
+        return VALIDATE_OPTIONAL_FIELDS.get();
+    }
 }
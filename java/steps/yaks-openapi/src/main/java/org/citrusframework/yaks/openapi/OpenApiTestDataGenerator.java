@@ -54,7 +54,7 @@ public class OpenApiTestDataGenerator {
 
             if (schema.properties != null) {
                 for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.generateOptionalFields || isRequired(schema, entry.getKey())) {
+                    if (OpenApiSteps.isGenerateOptionalFields() || isRequired(schema, entry.getKey())) {
                         payload.append("\"")
                                 .append(entry.getKey())
                                 .append("\": ")
@@ -162,7 +162,7 @@ public class OpenApiTestDataGenerator {
 
             if (schema.properties != null) {
                 for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.validateOptionalFields || isRequired(schema, entry.getKey())) {
+                    if (OpenApiSteps.isValidateOptionalFields() || isRequired(schema, entry.getKey())) {
                         payload.append("\"")
                                 .append(entry.getKey())
                                 .append("\": ")
@@ -238,7 +238,7 @@ public class OpenApiTestDataGenerator {
 
             if (schema.properties != null) {
                 for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
-                    if (OpenApiSteps.validateOptionalFields || isRequired(schema, entry.getKey())) {
+                    if (OpenApiSteps.isValidateOptionalFields() || isRequired(schema, entry.getKey())) {
                         payload.append("\"")
                                 .append(entry.getKey())
                                 .append("\": ")
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +52,10 @@ public class YaksSettings {
     private static final String TEST_ID_PROPERTY = YAKS_PROPERTY_PREFIX + "test.id";
     private static final String TEST_ID_ENV = YAKS_ENV_PREFIX + "TEST_ID";
 
+    /** Worker ids assigned to the threads executing scenarios */
+    private static final AtomicInteger WORKER_COUNT = new AtomicInteger();
+    private static final ThreadLocal<Integer> WORKER_ID = ThreadLocal.withInitial(WORKER_COUNT::getAndIncrement);
+
     /**
      * Namespace to work on when performing Kubernetes/Knative client operations on resources.
      * @return
@@ -115,4 +120,13 @@ public class YaksSettings {
     public static boolean isKubernetesCluster() {
         return YaksClusterType.KUBERNETES.equals(getClusterType());
     }
+
+    /**
+     * Id of the worker thread executing the current scenario. When scenarios run in parallel each worker
+     * gets a unique id starting with 0 that can be used to isolate ports or namespaces used by the scenario.
+     * @return
+     */
+    public static int getWorkerId() {
+        return WORKER_ID.get();
+    }
 }
@@ -26,7 +26,9 @@ public enum YaksVariableNames {
     SCENARIO_ID("SCENARIO_ID"),
     SCENARIO_NAME("SCENARIO_NAME"),
     CLUSTER_WILDCARD_DOMAIN("CLUSTER_WILDCARD_DOMAIN"),
-    NAMESPACE("YAKS_NAMESPACE");
+    NAMESPACE("YAKS_NAMESPACE"),
+    NAMESPACE_LEASE("YAKS_NAMESPACE_LEASE"),
+    WORKER_ID("YAKS_WORKER_ID");
 
     private final String variableName;
 
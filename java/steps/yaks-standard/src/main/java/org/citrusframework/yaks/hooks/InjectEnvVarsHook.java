@@ -23,6 +23,7 @@ import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.context.TestContext;
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.citrusframework.yaks.YaksSettings;
@@ -38,6 +39,9 @@ public class InjectEnvVarsHook {
     @CitrusResource
     private TestCaseRunner runner;
 
+    /** Namespace leased from a namespace provider for this scenario */
+    private String leasedNamespace;
+
     @Before
     public void injectEnvVars(Scenario scenario) {
         runner.run(new AbstractTestAction() {
@@ -49,7 +53,18 @@ public class InjectEnvVarsHook {
                     context.setVariable(YaksVariableNames.SCENARIO_NAME.value(), scenario.getName());
                 }
 
-                Optional<String> namespaceEnv = getNamespaceSetting();
+                context.setVariable(YaksVariableNames.WORKER_ID.value(), getWorkerId());
+
+                Optional<String> namespaceEnv = leaseNamespace();
+                namespaceEnv.ifPresent(namespace -> {
+                    leasedNamespace = namespace;
+                    context.setVariable(YaksVariableNames.NAMESPACE_LEASE.value(), namespace);
+                });
+
+                if (!namespaceEnv.isPresent()) {
+                    namespaceEnv = getNamespaceSetting();
+                }
+
                 Optional<String> domainEnv = getClusterWildcardSetting();
 
                 if (namespaceEnv.isPresent()) {
@@ -65,6 +80,26 @@ public class InjectEnvVarsHook {
         });
     }
 
+    @After
+    public void releaseLeasedNamespace(Scenario scenario) {
+        if (leasedNamespace != null) {
+            releaseNamespace(leasedNamespace);
+            leasedNamespace = null;
+        }
+    }
+
+    protected Optional<String> leaseNamespace() {
+        return NamespaceProvider.lookup().map(NamespaceProvider::lease);
+    }
+
+    protected void releaseNamespace(String namespace) {
+        NamespaceProvider.lookup().ifPresent(provider -> provider.release(namespace));
+    }
+
+    protected int getWorkerId() {
+        return YaksSettings.getWorkerId();
+    }
+
     protected Optional<String> getClusterWildcardSetting() {
         return Optional.ofNullable(YaksSettings.getClusterWildcardDomain());
     }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.hooks;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Provides an isolated namespace per scenario. Implementations are loaded via service loader. When an enabled provider is
+ * present the {@link InjectEnvVarsHook} leases a namespace before the scenario and releases it after the scenario.
+ *
+ * @author Christoph Deppisch
+ */
+public interface NamespaceProvider {
+
+    /**
+     * Checks if this provider is enabled in the current environment.
+     * @return
+     */
+    boolean isEnabled();
+
+    /**
+     * Leases a namespace exclusively for the current scenario.
+     * @return
+     */
+    String lease();
+
+    /**
+     * Gives back the namespace leased before. The provider may recycle the namespace for other scenarios.
+     * @param namespace
+     */
+    void release(String namespace);
+
+    /**
+     * Static lookup method makes use of service loader to find the first enabled namespace provider. Uses a new service loader
+     * instance per lookup, because service loader instances are not safe for use by multiple concurrent threads.
+     * @return
+     */
+    static Optional<NamespaceProvider> lookup() {
+        for (NamespaceProvider provider : ServiceLoader.load(NamespaceProvider.class)) {
+            if (provider.isEnabled()) {
+                return Optional.of(provider);
+            }
+        }
+
+        return Optional.empty();
+    }
+}
@@ -84,9 +84,7 @@ public class TestReporter extends CitrusReporter {
             return;
         }
 
-        Optional<TestResult> testDetail = testResults.getTests().stream()
-                .filter(detail -> detail.getId().equals(event.getTestCase().getId()))
-                .findFirst();
+        Optional<TestResult> testDetail = testResults.getTestResult(event.getTestCase().getId());
 
         if (event.getResult().getError() != null) {
             if (testDetail.isPresent()) {
@@ -127,8 +125,7 @@ public class TestReporter extends CitrusReporter {
      */
     private void printReports(TestRunFinished event) {
         try (Writer terminationLogWriter = Files.newBufferedWriter(getTerminationLog(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-            terminationLogWriter.write(testResults.toJson());
-            terminationLogWriter.flush();
+            testResults.writeJson(terminationLogWriter);
         } catch (IOException e) {
             LOG.warn(String.format("Failed to write termination logs to file '%s'", getTerminationLog()), e);
         }
@@ -141,19 +138,19 @@ public class TestReporter extends CitrusReporter {
     private void saveTestResult(TestCaseFinished event) {
         switch (event.getResult().getStatus()) {
             case FAILED:
-                testResults.getSummary().failed++;
+                testResults.getSummary().failed.incrementAndGet();
                 break;
             case PASSED:
-                testResults.getSummary().passed++;
+                testResults.getSummary().passed.incrementAndGet();
                 break;
             case PENDING:
-                testResults.getSummary().pending++;
+                testResults.getSummary().pending.incrementAndGet();
                 break;
             case UNDEFINED:
-                testResults.getSummary().undefined++;
+                testResults.getSummary().undefined.incrementAndGet();
                 break;
             case SKIPPED:
-                testResults.getSummary().skipped++;
+                testResults.getSummary().skipped.incrementAndGet();
                 break;
             default:
         }
@@ -30,7 +30,7 @@ class TestResult {
     private final UUID id;
     private final String name;
     private final String classname;
-    private Throwable cause;
+    private volatile Throwable cause;
 
     public TestResult(UUID id, String name, String classname) {
         this.id = id;
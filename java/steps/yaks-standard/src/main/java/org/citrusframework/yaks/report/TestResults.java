@@ -17,8 +17,16 @@
 
 package org.citrusframework.yaks.report;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -27,7 +35,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Local store for collected test results.
+ * Local store for collected test results. Results are indexed by test id and may be added
+ * concurrently when scenarios run in parallel.
  */
 class TestResults {
     /** Logger */
@@ -35,11 +44,12 @@ class TestResults {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private String suiteName = "yaks-test-suite";
+    private volatile String suiteName = "yaks-test-suite";
 
     private final TestSummary summary = new TestSummary();
 
-    private final List<TestResult> tests = new ArrayList<>();
+    private final Map<UUID, TestResult> index = new ConcurrentHashMap<>();
+    private final Queue<TestResult> tests = new ConcurrentLinkedQueue<>();
 
     public void setSuiteName(String suiteName) {
         this.suiteName = suiteName;
@@ -50,7 +60,7 @@ class TestResults {
     }
 
     public List<TestResult> getTests() {
-        return tests;
+        return new ArrayList<>(tests);
     }
 
     public TestSummary getSummary() {
@@ -59,7 +69,14 @@ class TestResults {
 
     @JsonIgnore
     public void addTestResult(TestResult result) {
-        this.tests.add(result);
+        if (index.putIfAbsent(result.getId(), result) == null) {
+            this.tests.add(result);
+        }
+    }
+
+    @JsonIgnore
+    public Optional<TestResult> getTestResult(UUID id) {
+        return Optional.ofNullable(index.get(id));
     }
 
     @JsonIgnore
@@ -72,4 +89,14 @@ class TestResults {
 
         return "";
     }
+
+    /**
+     * Writes Json report to given writer without building the complete Json string in memory.
+     * @param writer
+     * @throws IOException
+     */
+    @JsonIgnore
+    public void writeJson(Writer writer) throws IOException {
+        OBJECT_MAPPER.writeValue(writer, this);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.citrusframework.yaks.report;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -24,39 +26,39 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class TestSummary {
 
-    int passed = 0;
-    int failed = 0;
-    int errors = 0;
-    int skipped = 0;
-    int pending = 0;
-    int undefined = 0;
+    final AtomicInteger passed = new AtomicInteger();
+    final AtomicInteger failed = new AtomicInteger();
+    final AtomicInteger errors = new AtomicInteger();
+    final AtomicInteger skipped = new AtomicInteger();
+    final AtomicInteger pending = new AtomicInteger();
+    final AtomicInteger undefined = new AtomicInteger();
 
     public int getPassed() {
-        return passed;
+        return passed.get();
     }
 
     public int getFailed() {
-        return failed;
+        return failed.get();
     }
 
     public int getErrors() {
-        return errors;
+        return errors.get();
     }
 
     public int getSkipped() {
-        return skipped;
+        return skipped.get();
     }
 
     public int getPending() {
-        return pending;
+        return pending.get();
     }
 
     public int getUndefined() {
-        return undefined;
+        return undefined.get();
     }
 
     @JsonProperty
     public int getTotal() {
-        return passed + failed + skipped + pending + undefined;
+        return getPassed() + getFailed() + getSkipped() + getPending() + getUndefined();
     }
 }
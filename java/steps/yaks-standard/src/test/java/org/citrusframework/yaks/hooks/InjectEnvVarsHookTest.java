@@ -17,6 +17,8 @@
 
 package org.citrusframework.yaks.hooks;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import com.consol.citrus.DefaultTestCaseRunner;
@@ -47,6 +49,11 @@ public class InjectEnvVarsHookTest {
             protected Optional<String> getClusterWildcardSetting() {
                 return Optional.of("foo.cluster.io");
             }
+
+            @Override
+            protected int getWorkerId() {
+                return 2;
+            }
         };
 
         TestContext context = TestContextFactory.newInstance().getObject();
@@ -57,6 +64,7 @@ public class InjectEnvVarsHookTest {
 
         Assertions.assertThat(context.getVariable(YaksVariableNames.NAMESPACE.value())).isEqualTo("foo");
         Assertions.assertThat(context.getVariable(YaksVariableNames.CLUSTER_WILDCARD_DOMAIN.value())).isEqualTo("foo.cluster.io");
+        Assertions.assertThat(context.getVariable(YaksVariableNames.WORKER_ID.value())).isEqualTo("2");
     }
 
     @Test
@@ -83,4 +91,46 @@ public class InjectEnvVarsHookTest {
         Assertions.assertThat(context.getVariable(YaksVariableNames.NAMESPACE.value())).isEqualTo("foo");
         Assertions.assertThat(context.getVariable(YaksVariableNames.CLUSTER_WILDCARD_DOMAIN.value())).isEqualTo("foo." + YaksSettings.DEFAULT_DOMAIN_SUFFIX);
     }
+
+    @Test
+    @SuppressWarnings("CucumberJavaStepDefClassIsPublic")
+    public void shouldInjectLeasedNamespace() {
+        List<String> released = new ArrayList<>();
+        InjectEnvVarsHook hook = new InjectEnvVarsHook() {
+            @Override
+            protected Optional<String> leaseNamespace() {
+                return Optional.of("yaks-pool-1");
+            }
+
+            @Override
+            protected void releaseNamespace(String namespace) {
+                released.add(namespace);
+            }
+
+            @Override
+            protected Optional<String> getNamespaceSetting() {
+                return Optional.of("foo");
+            }
+
+            @Override
+            protected Optional<String> getClusterWildcardSetting() {
+                return Optional.empty();
+            }
+        };
+
+        TestContext context = TestContextFactory.newInstance().getObject();
+        TestCaseRunner runner = new DefaultTestCaseRunner(context);
+        CitrusAnnotations.injectTestRunner(hook, runner);
+
+        hook.injectEnvVars(null);
+
+        Assertions.assertThat(context.getVariable(YaksVariableNames.NAMESPACE.value())).isEqualTo("yaks-pool-1");
+        Assertions.assertThat(context.getVariable(YaksVariableNames.NAMESPACE_LEASE.value())).isEqualTo("yaks-pool-1");
+        Assertions.assertThat(context.getVariable(YaksVariableNames.CLUSTER_WILDCARD_DOMAIN.value())).isEqualTo("yaks-pool-1." + YaksSettings.DEFAULT_DOMAIN_SUFFIX);
+
+        hook.releaseLeasedNamespace(null);
+        hook.releaseLeasedNamespace(null);
+
+        Assertions.assertThat(released).containsExactly("yaks-pool-1");
+    }
 }
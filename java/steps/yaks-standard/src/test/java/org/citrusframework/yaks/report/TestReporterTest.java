@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.report;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestReporterTest {
+
+    private static final int THREADS = 8;
+    private static final int TESTS_PER_THREAD = 50;
+
+    private final Map<Class<?>, EventHandler<?>> handlers = new HashMap<>();
+
+    private Path terminationLog;
+
+    @Before
+    public void setup() throws Exception {
+        terminationLog = Files.createTempFile("termination", ".log");
+        System.setProperty("yaks.termination.log", terminationLog.toString());
+
+        new TestReporter().setEventPublisher(new EventPublisher() {
+            @Override
+            public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+                // only keep the reporter handlers that get registered before the Citrus reporter handlers
+                handlers.putIfAbsent(eventType, handler);
+            }
+
+            @Override
+            public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+                handlers.remove(eventType);
+            }
+        });
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty("yaks.termination.log");
+        Files.deleteIfExists(terminationLog);
+    }
+
+    @Test
+    public void shouldCollectConcurrentlyFinishedTests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TESTS_PER_THREAD; i++) {
+                        TestCase testCase = testCase("Test " + i);
+                        Status status = i % 2 == 0 ? Status.PASSED : Status.FAILED;
+
+                        publish(new TestCaseStarted(Instant.now(), testCase));
+                        publish(new TestCaseFinished(Instant.now(), testCase, new Result(status, Duration.ZERO, null)));
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertThat(executor.awaitTermination(30L, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(Files.size(terminationLog)).isZero();
+
+        publish(new TestRunFinished(Instant.now(), new Result(Status.PASSED, Duration.ZERO, null)));
+
+        JsonNode report = new ObjectMapper().readTree(terminationLog.toFile());
+        int total = THREADS * TESTS_PER_THREAD;
+        Assertions.assertThat(report.get("tests").size()).isEqualTo(total);
+        Assertions.assertThat(report.get("summary").get("passed").asInt()).isEqualTo(total / 2);
+        Assertions.assertThat(report.get("summary").get("failed").asInt()).isEqualTo(total / 2);
+        Assertions.assertThat(report.get("summary").get("total").asInt()).isEqualTo(total);
+    }
+
+    private TestCase testCase(String name) {
+        TestCase testCase = Mockito.mock(TestCase.class);
+        Mockito.when(testCase.getId()).thenReturn(UUID.randomUUID());
+        Mockito.when(testCase.getName()).thenReturn(name);
+        Mockito.when(testCase.getUri()).thenReturn(URI.create("classpath:org/citrusframework/yaks/report/report.feature"));
+        Mockito.when(testCase.getLine()).thenReturn(3);
+        return testCase;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void publish(T event) {
+        ((EventHandler<T>) handlers.get(event.getClass())).receive(event);
+    }
+}
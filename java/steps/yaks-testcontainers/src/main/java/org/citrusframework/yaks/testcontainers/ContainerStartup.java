@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.testcontainers;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Container steps that are able to take part in a parallel container startup. Starting the container may run on a
+ * different thread than the scenario, so everything touching the test runner or the test context is done on completion.
+ * Scenario settings bound to the scenario thread are captured up front and passed to the container startup.
+ *
+ * @author Christoph Deppisch
+ */
+interface ContainerStartup {
+
+    /**
+     * Creates and starts the container including initialization and bindings in the Citrus context.
+     * @param settings scenario settings captured on the scenario thread.
+     */
+    void startContainer(Settings settings);
+
+    /**
+     * Exposes the connection settings to the current test context and registers the container cleanup.
+     * @param settings scenario settings captured on the scenario thread.
+     */
+    void completeStartup(Settings settings);
+
+    /**
+     * Stops the container after a failed parallel startup of another container. Shared containers are kept.
+     * @param settings scenario settings captured on the scenario thread.
+     */
+    void abortStartup(Settings settings);
+
+    /**
+     * Scenario settings relevant for the container startup.
+     */
+    final class Settings {
+        private final boolean shared;
+        private final boolean autoRemove;
+        private final String initScript;
+
+        private Settings(boolean shared, boolean autoRemove, String initScript) {
+            this.shared = shared;
+            this.autoRemove = autoRemove;
+            this.initScript = initScript;
+        }
+
+        /**
+         * Captures the settings of the current scenario. Must be called on the scenario thread.
+         * @param context
+         * @return
+         */
+        static Settings capture(TestContext context) {
+            return new Settings(TestContainersSteps.isSharedContainers(), TestContainersSteps.isAutoRemoveResources(),
+                    DatabaseContainerSteps.getInitScript(context));
+        }
+
+        boolean isShared() {
+            return shared;
+        }
+
+        boolean isAutoRemove() {
+            return autoRemove;
+        }
+
+        String getInitScript() {
+            return initScript;
+        }
+    }
+}
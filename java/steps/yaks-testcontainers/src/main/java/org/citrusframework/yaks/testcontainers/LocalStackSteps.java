@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.testcontainers;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
@@ -37,7 +38,7 @@ import org.testcontainers.utility.DockerImageName;
 import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
-public class LocalStackSteps {
+public class LocalStackSteps implements ContainerStartup {
 
     @CitrusFramework
     private Citrus citrus;
@@ -56,6 +57,8 @@ public class LocalStackSteps {
 
     @Before
     public void before(Scenario scenario) {
+        TestContainersSteps.registerContainer("localstack", this);
+
         if (localStackContainer == null && citrus.getCitrusContext().getReferenceResolver().isResolvable(LocalStackContainer.class)) {
             localStackContainer = citrus.getCitrusContext().getReferenceResolver().resolve("localStackContainer", LocalStackContainer.class);
             services = citrus.getCitrusContext().getReferenceResolver().resolve("localStackEnabledServices", Set.class);
@@ -82,31 +85,61 @@ public class LocalStackSteps {
 
     @Given("^start LocalStack container$")
     public void startLocalStack() {
-        localStackContainer = new LocalStackContainer(DockerImageName.parse("localstack/localstack").withTag(localStackVersion))
-                .withServices(services.toArray(LocalStackContainer.Service[]::new))
-                .waitingFor(Wait.forListeningPort()
-                        .withStartupTimeout(Duration.of(startupTimeout, SECONDS)));
+        Settings settings = Settings.capture(context);
+        startContainer(settings);
+        completeStartup(settings);
+    }
 
-        localStackContainer.start();
+    @Override
+    public void startContainer(Settings settings) {
+        if (settings.isShared()) {
+            Set<LocalStackContainer.Service> enabledServices = new HashSet<>(services);
+            localStackContainer = SharedContainers.getOrStart(Arrays.asList("localstack/localstack", localStackVersion, enabledServices),
+                    this::createContainer, container -> {
+                        citrus.getCitrusContext().bind("localStackContainer", container);
+                        citrus.getCitrusContext().bind("localStackEnabledServices", enabledServices);
+                    });
+        } else {
+            localStackContainer = createContainer();
+            localStackContainer.start();
 
-        citrus.getCitrusContext().bind("localStackContainer", localStackContainer);
-        citrus.getCitrusContext().bind("localStackEnabledServices", services);
+            citrus.getCitrusContext().bind("localStackContainer", localStackContainer);
+            citrus.getCitrusContext().bind("localStackEnabledServices", services);
+        }
+    }
 
+    @Override
+    public void completeStartup(Settings settings) {
         exposeConnectionSettings(localStackContainer, context);
 
-        if (TestContainersSteps.autoRemoveResources) {
+        if (settings.isAutoRemove() && !settings.isShared()) {
             runner.run(doFinally()
                     .actions(context -> localStackContainer.stop()));
         }
     }
 
+    @Override
+    public void abortStartup(Settings settings) {
+        if (!settings.isShared() && localStackContainer != null) {
+            localStackContainer.stop();
+        }
+    }
+
     @Given("^stop LocalStack container$")
     public void stopLocalStack() {
         if (localStackContainer != null) {
-            localStackContainer.stop();
+            SharedContainers.stop(localStackContainer);
         }
     }
 
+    private LocalStackContainer createContainer() {
+        return new LocalStackContainer(DockerImageName.parse("localstack/localstack").withTag(localStackVersion))
+                .withServices(services.toArray(LocalStackContainer.Service[]::new))
+                .withReuse(TestContainersSettings.isReuse())
+                .waitingFor(Wait.forListeningPort()
+                        .withStartupTimeout(Duration.of(startupTimeout, SECONDS)));
+    }
+
     /**
      * Sets the connection settings in current test context in the form of test variables.
      * @param localStackContainer
@@ -18,6 +18,7 @@
 package org.citrusframework.yaks.testcontainers;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
@@ -34,7 +35,7 @@ import org.testcontainers.utility.DockerImageName;
 import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
-public class MongoDBSteps {
+public class MongoDBSteps implements ContainerStartup {
 
     @CitrusFramework
     private Citrus citrus;
@@ -52,6 +53,8 @@ public class MongoDBSteps {
 
     @Before
     public void before(Scenario scenario) {
+        TestContainersSteps.registerContainer("mongodb", this);
+
         if (mongoDBContainer == null && citrus.getCitrusContext().getReferenceResolver().isResolvable(MongoDBContainer.class)) {
             mongoDBContainer = citrus.getCitrusContext().getReferenceResolver().resolve("mongoDBContainer", MongoDBContainer.class);
             setConnectionSettings(mongoDBContainer, context);
@@ -70,29 +73,54 @@ public class MongoDBSteps {
 
     @Given("^start MongoDB container$")
     public void startMongo() {
-        mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo").withTag(mongoDBVersion))
-                .waitingFor(Wait.forLogMessage("(?i).*waiting for connections.*", 1)
-                        .withStartupTimeout(Duration.of(startupTimeout, SECONDS)));
-
-        mongoDBContainer.start();
+        Settings settings = Settings.capture(context);
+        startContainer(settings);
+        completeStartup(settings);
+    }
 
-        citrus.getCitrusContext().bind("mongoDBContainer", mongoDBContainer);
+    @Override
+    public void startContainer(Settings settings) {
+        if (settings.isShared()) {
+            mongoDBContainer = SharedContainers.getOrStart(Arrays.asList("mongo", mongoDBVersion),
+                    this::createContainer, container -> citrus.getCitrusContext().bind("mongoDBContainer", container));
+        } else {
+            mongoDBContainer = createContainer();
+            mongoDBContainer.start();
+            citrus.getCitrusContext().bind("mongoDBContainer", mongoDBContainer);
+        }
+    }
 
+    @Override
+    public void completeStartup(Settings settings) {
         setConnectionSettings(mongoDBContainer, context);
 
-        if (TestContainersSteps.autoRemoveResources) {
+        if (settings.isAutoRemove() && !settings.isShared()) {
             runner.run(doFinally()
                     .actions(context -> mongoDBContainer.stop()));
         }
     }
 
+    @Override
+    public void abortStartup(Settings settings) {
+        if (!settings.isShared() && mongoDBContainer != null) {
+            mongoDBContainer.stop();
+        }
+    }
+
     @Given("^stop MongoDB container$")
     public void stopMongo() {
         if (mongoDBContainer != null) {
-            mongoDBContainer.stop();
+            SharedContainers.stop(mongoDBContainer);
         }
     }
 
+    private MongoDBContainer createContainer() {
+        return new MongoDBContainer(DockerImageName.parse("mongo").withTag(mongoDBVersion))
+                .withReuse(TestContainersSettings.isReuse())
+                .waitingFor(Wait.forLogMessage("(?i).*waiting for connections.*", 1)
+                        .withStartupTimeout(Duration.of(startupTimeout, SECONDS)));
+    }
+
     /**
      * Sets the connection settings in current test context in the form of test variables.
      * @param mongoDBContainer
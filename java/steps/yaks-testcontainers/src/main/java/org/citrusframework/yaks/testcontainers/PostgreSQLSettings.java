@@ -47,6 +47,10 @@ public class PostgreSQLSettings {
     private static final String STARTUP_TIMEOUT_ENV = POSTGRESQL_ENV_PREFIX + "STARTUP_TIMEOUT";
     private static final String STARTUP_TIMEOUT_DEFAULT = "180";
 
+    private static final String AUTO_RESTORE_PROPERTY = POSTGRESQL_PROPERTY_PREFIX + "auto.restore";
+    private static final String AUTO_RESTORE_ENV = POSTGRESQL_ENV_PREFIX + "AUTO_RESTORE";
+    private static final String AUTO_RESTORE_DEFAULT = "false";
+
     private PostgreSQLSettings() {
         // prevent instantiation of utility class
     }
@@ -95,4 +99,15 @@ public class PostgreSQLSettings {
         return Integer.parseInt(System.getProperty(STARTUP_TIMEOUT_PROPERTY,
                 System.getenv(STARTUP_TIMEOUT_ENV) != null ? System.getenv(STARTUP_TIMEOUT_ENV) : STARTUP_TIMEOUT_DEFAULT));
     }
+
+    /**
+     * When set to true the database is restored from its snapshot before each scenario.
+     * Only applies when a snapshot of the database has been taken before. Disabled by default, because the restore
+     * terminates all open connections to the database.
+     * @return
+     */
+    public static boolean isAutoRestore() {
+        return Boolean.parseBoolean(System.getProperty(AUTO_RESTORE_PROPERTY,
+                System.getenv(AUTO_RESTORE_ENV) != null ? System.getenv(AUTO_RESTORE_ENV) : AUTO_RESTORE_DEFAULT));
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Takes snapshots of a PostgreSQL container database and restores them. A snapshot is a template database cloned from
+ * the container database. Restoring drops the database and creates it again from the template, which is a lot faster
+ * than restarting the container and running the init scripts again.
+ *
+ * @author Christoph Deppisch
+ */
+final class PostgreSQLSnapshots {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PostgreSQLSnapshots.class);
+
+    private static final String SNAPSHOT_SUFFIX = "_snapshot";
+    private static final String MAINTENANCE_DATABASE = "postgres";
+
+    /** Containers that have a snapshot identified by container id and database name */
+    private static final Set<String> SNAPSHOTS = ConcurrentHashMap.newKeySet();
+
+    private PostgreSQLSnapshots() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Creates a snapshot of the container database. Existing snapshots are replaced.
+     * @param container
+     */
+    static synchronized void snapshot(PostgreSQLContainer<?> container) {
+        String database = container.getDatabaseName();
+        String snapshot = database + SNAPSHOT_SUFFIX;
+
+        try (Connection connection = connect(container);
+             Statement statement = connection.createStatement()) {
+            terminateConnections(connection, database);
+            statement.execute(String.format("DROP DATABASE IF EXISTS \"%s\"", snapshot));
+            statement.execute(String.format("CREATE DATABASE \"%s\" TEMPLATE \"%s\"", snapshot, database));
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException(String.format("Failed to create snapshot of PostgreSQL database '%s'", database), e);
+        }
+
+        SNAPSHOTS.add(key(container));
+        LOG.info(String.format("Created snapshot of PostgreSQL database '%s'", database));
+    }
+
+    /**
+     * Restores the container database from its snapshot. Open connections to the database are terminated.
+     * @param container
+     */
+    static synchronized void restore(PostgreSQLContainer<?> container) {
+        String database = container.getDatabaseName();
+        if (!hasSnapshot(container)) {
+            throw new CitrusRuntimeException(String.format("Missing snapshot of PostgreSQL database '%s'", database));
+        }
+
+        try (Connection connection = connect(container);
+             Statement statement = connection.createStatement()) {
+            terminateConnections(connection, database);
+            statement.execute(String.format("DROP DATABASE IF EXISTS \"%s\"", database));
+            statement.execute(String.format("CREATE DATABASE \"%s\" TEMPLATE \"%s\"", database, database + SNAPSHOT_SUFFIX));
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException(String.format("Failed to restore PostgreSQL database '%s' from snapshot", database), e);
+        }
+
+        LOG.info(String.format("Restored PostgreSQL database '%s' from snapshot", database));
+    }
+
+    /**
+     * Checks if there is a snapshot of the database in given container.
+     * @param container
+     * @return
+     */
+    static boolean hasSnapshot(PostgreSQLContainer<?> container) {
+        return container.isRunning() && SNAPSHOTS.contains(key(container));
+    }
+
+    /**
+     * Connects to the maintenance database as the container database can not be dropped or used as template
+     * while there are open connections.
+     * @param container
+     * @return
+     * @throws SQLException
+     */
+    private static Connection connect(PostgreSQLContainer<?> container) throws SQLException {
+        String url = String.format("jdbc:postgresql://%s:%d/%s", container.getHost(),
+                container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), MAINTENANCE_DATABASE);
+        return DriverManager.getConnection(url, container.getUsername(), container.getPassword());
+    }
+
+    private static void terminateConnections(Connection connection, String database) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = ? AND pid <> pg_backend_pid()")) {
+            statement.setString(1, database);
+            statement.execute();
+        }
+    }
+
+    private static String key(PostgreSQLContainer<?> container) {
+        return container.getContainerId() + "/" + container.getDatabaseName();
+    }
+}
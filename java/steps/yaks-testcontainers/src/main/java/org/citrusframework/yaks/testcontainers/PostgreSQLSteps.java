@@ -18,7 +18,10 @@
 package org.citrusframework.yaks.testcontainers;
 
 import javax.script.ScriptException;
+import java.sql.SQLException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
@@ -30,6 +33,9 @@ import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.citrusframework.yaks.jdbc.JdbcDataSources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.ext.ScriptUtils;
@@ -39,7 +45,10 @@ import org.testcontainers.utility.DockerImageName;
 import static com.consol.citrus.container.FinallySequence.Builder.doFinally;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
-public class PostgreSQLSteps {
+public class PostgreSQLSteps implements ContainerStartup {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PostgreSQLSteps.class);
 
     @CitrusFramework
     private Citrus citrus;
@@ -62,9 +71,21 @@ public class PostgreSQLSteps {
 
     @Before
     public void before(Scenario scenario) {
+        TestContainersSteps.registerContainer("postgresql", this);
+
         if (postgreSQLContainer == null && citrus.getCitrusContext().getReferenceResolver().isResolvable(PostgreSQLContainer.class)) {
-            postgreSQLContainer = citrus.getCitrusContext().getReferenceResolver().resolve("postgreSQLContainer", PostgreSQLContainer.class);
+            PostgreSQLContainer<?> container = citrus.getCitrusContext().getReferenceResolver().resolve("postgreSQLContainer", PostgreSQLContainer.class);
+            if (!container.isRunning()) {
+                // container of a previous scenario has been stopped already
+                return;
+            }
+
+            postgreSQLContainer = container;
             setConnectionSettings(postgreSQLContainer, context);
+
+            if (isAutoRestore() && PostgreSQLSnapshots.hasSnapshot(postgreSQLContainer)) {
+                PostgreSQLSnapshots.restore(postgreSQLContainer);
+            }
         }
     }
 
@@ -95,46 +116,132 @@ public class PostgreSQLSteps {
 
     @Given("^start PostgreSQL container$")
     public void startPostgresql() {
-        postgreSQLContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres").withTag(postgreSQLVersion))
+        Settings settings = Settings.capture(context);
+        startContainer(settings);
+        completeStartup(settings);
+    }
+
+    @Override
+    public void startContainer(Settings settings) {
+        String initScript = settings.getInitScript();
+
+        if (settings.isShared()) {
+            postgreSQLContainer = SharedContainers.getOrStart(Arrays.asList("postgres", postgreSQLVersion, databaseName, username, password, initScript),
+                    this::createContainer, container -> initContainer(container, initScript));
+        } else {
+            postgreSQLContainer = createContainer();
+            postgreSQLContainer.start();
+            initContainer(postgreSQLContainer, initScript);
+        }
+    }
+
+    @Override
+    public void completeStartup(Settings settings) {
+        setConnectionSettings(postgreSQLContainer, context);
+
+        if (settings.isAutoRemove() && !settings.isShared()) {
+            runner.run(doFinally()
+                    .actions(context -> {
+                        closeDataSource();
+                        postgreSQLContainer.stop();
+                    }));
+        }
+    }
+
+    @Override
+    public void abortStartup(Settings settings) {
+        if (!settings.isShared() && postgreSQLContainer != null) {
+                closeDataSource();
+            postgreSQLContainer.stop();
+        }
+    }
+
+    @Given("^snapshot PostgreSQL database$")
+    public void snapshotDatabase() {
+        PostgreSQLSnapshots.snapshot(getContainer());
+    }
+
+    @Given("^restore PostgreSQL database$")
+    public void restoreDatabase() {
+        PostgreSQLSnapshots.restore(getContainer());
+    }
+
+    @Given("^stop PostgreSQL container$")
+    public void stopPostgresql() {
+        if (postgreSQLContainer != null) {
+            closeDataSource();
+            SharedContainers.stop(postgreSQLContainer);
+        }
+    }
+
+    /**
+     * Closes the connection pool bound to the Citrus context for the PostgreSQL container.
+     */
+    private void closeDataSource() {
+        if (citrus.getCitrusContext().getReferenceResolver().isResolvable("postgreSQL")) {
+            try {
+                citrus.getCitrusContext().getReferenceResolver().resolve("postgreSQL", BasicDataSource.class).close();
+            } catch (SQLException e) {
+                throw new CitrusRuntimeException("Failed to close PostgreSQL data source", e);
+            }
+        }
+    }
+
+    /**
+     * Auto restore terminates all connections to the database, so it is skipped when other scenarios may use
+     * the same database at the same time.
+     * @return
+     */
+    private static boolean isAutoRestore() {
+        if (!PostgreSQLSettings.isAutoRestore()) {
+            return false;
+        }
+
+        if (TestContainersSteps.isSharedContainers() || TestContainersSettings.isParallel()) {
+            LOG.warn("Skip PostgreSQL auto restore of database snapshot as scenarios share the database container or run in parallel");
+            return false;
+        }
+
+        return true;
+    }
+
+    private PostgreSQLContainer<?> getContainer() {
+        if (postgreSQLContainer == null || !postgreSQLContainer.isRunning()) {
+            throw new CitrusRuntimeException("Missing running PostgreSQL container - please start the container first");
+        }
+
+        return postgreSQLContainer;
+    }
+
+    private PostgreSQLContainer<?> createContainer() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres").withTag(postgreSQLVersion))
                 .withUsername(username)
                 .withPassword(password)
                 .withDatabaseName(databaseName)
+                .withReuse(TestContainersSettings.isReuse())
                 .waitingFor(Wait.forListeningPort()
                         .withStartupTimeout(Duration.of(startupTimeout, SECONDS)));
+    }
 
-        postgreSQLContainer.start();
-
-        String initScript = DatabaseContainerSteps.getInitScript(context);
+    /**
+     * Runs the init script on the started container and binds container and data source to the Citrus context.
+     * @param container
+     * @param initScript
+     */
+    private void initContainer(PostgreSQLContainer<?> container, String initScript) {
         if (!initScript.isEmpty()) {
             try {
-                ScriptUtils.executeDatabaseScript(new JdbcDatabaseDelegate(postgreSQLContainer, ""), "init.sql", initScript);
+                ScriptUtils.executeDatabaseScript(new JdbcDatabaseDelegate(container, ""), "init.sql", initScript);
             } catch (ScriptException e) {
                 throw new CitrusRuntimeException("Failed to execute init script");
             }
         }
 
-        BasicDataSource postgreSQLDataSource = new BasicDataSource();
-        postgreSQLDataSource.setDriverClassName(postgreSQLContainer.getDriverClassName());
-        postgreSQLDataSource.setUrl(postgreSQLContainer.getJdbcUrl());
-        postgreSQLDataSource.setUsername(postgreSQLContainer.getUsername());
-        postgreSQLDataSource.setPassword(postgreSQLContainer.getPassword());
+        BasicDataSource postgreSQLDataSource = JdbcDataSources.create(container.getDriverClassName(), container.getJdbcUrl(),
+                container.getUsername(), container.getPassword(), Collections.emptyMap());
 
         citrus.getCitrusContext().bind("postgreSQL", postgreSQLDataSource);
-        citrus.getCitrusContext().bind("postgreSQLContainer", postgreSQLContainer);
-
-        setConnectionSettings(postgreSQLContainer, context);
-
-        if (TestContainersSteps.autoRemoveResources) {
-            runner.run(doFinally()
-                    .actions(context -> postgreSQLContainer.stop()));
-        }
-    }
-
-    @Given("^stop PostgreSQL container$")
-    public void stopPostgresql() {
-        if (postgreSQLContainer != null) {
-            postgreSQLContainer.stop();
-        }
+        citrus.getCitrusContext().bind("postgreSQLContainer", container);
     }
 
     /**
@@ -143,6 +250,10 @@ public class PostgreSQLSteps {
      * @param context
      */
     private void setConnectionSettings(PostgreSQLContainer<?> postgreSQLContainer, TestContext context) {
+        if (!postgreSQLContainer.isRunning()) {
+            throw new CitrusRuntimeException("PostgreSQL container is not running - unable to set connection settings");
+        }
+
         String containerId = postgreSQLContainer.getContainerId().substring(0, 12);
 
         context.setVariable(TestContainersSteps.TESTCONTAINERS_VARIABLE_PREFIX + "POSTGRESQL_CONTAINER_IP", postgreSQLContainer.getContainerIpAddress());
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * Registry of containers shared by all scenarios running in the same JVM. Containers are identified by image
+ * and configuration, so scenarios asking for the same container get the running instance instead of starting a new one.
+ * Shared containers get stopped on JVM shutdown unless Testcontainers reuse is enabled.
+ *
+ * @author Christoph Deppisch
+ */
+public final class SharedContainers {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SharedContainers.class);
+
+    /** Container startup futures so concurrent scenarios wait for the same container without blocking the map */
+    private static final Map<List<?>, CompletableFuture<GenericContainer<?>>> CONTAINERS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedContainers::stopAll, "yaks-testcontainers-shutdown"));
+    }
+
+    private SharedContainers() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Gets running container for given key or creates, starts and initializes a new container when
+     * there is no such container yet. Initializer is called only once right after the container has been started.
+     * @param key identifies the container by image and configuration.
+     * @param factory creates the container.
+     * @param initializer optional initialization logic run on the started container.
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends GenericContainer<?>> T getOrStart(List<?> key, Supplier<T> factory, Consumer<T> initializer) {
+        while (true) {
+            CompletableFuture<GenericContainer<?>> startup = new CompletableFuture<>();
+            CompletableFuture<GenericContainer<?>> existing = CONTAINERS.putIfAbsent(key, startup);
+
+            if (existing == null) {
+                // this thread owns the startup - start the container outside the map
+                try {
+                    T created = factory.get();
+                    created.start();
+                    initializer.accept(created);
+
+                    LOG.info(String.format("Started shared container %s", created.getDockerImageName()));
+                    startup.complete(created);
+                    return created;
+                } catch (RuntimeException e) {
+                    CONTAINERS.remove(key, startup);
+                    startup.completeExceptionally(e);
+                    throw e;
+                }
+            }
+
+            GenericContainer<?> container = await(existing);
+            if (container != null && container.isRunning()) {
+                return (T) container;
+            }
+
+            // container failed to start or has been stopped in the meantime - remove the stale entry and retry
+            CONTAINERS.remove(key, existing);
+        }
+    }
+
+    /**
+     * Stops and removes given container in case it is a shared container.
+     * @param container
+     */
+    public static void stop(GenericContainer<?> container) {
+        CONTAINERS.values().removeIf(startup -> startup.getNow(null) == container);
+        container.stop();
+    }
+
+    /**
+     * Waits for the container startup of another scenario. Returns null when that startup has failed.
+     * @param startup
+     * @return
+     */
+    private static GenericContainer<?> await(CompletableFuture<GenericContainer<?>> startup) {
+        try {
+            return startup.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for shared container startup", e);
+        }
+    }
+
+    /**
+     * Stops all shared containers unless Testcontainers reuse is enabled. Reusable containers
+     * are kept running so the next test run is able to pick them up.
+     */
+    private static void stopAll() {
+        if (TestContainersSettings.isReuse()) {
+            return;
+        }
+
+        CONTAINERS.values().stream()
+                .map(startup -> startup.getNow(null))
+                .filter(Objects::nonNull)
+                .forEach(container -> {
+                    try {
+                        container.stop();
+                    } catch (Exception e) {
+                        LOG.warn(String.format("Failed to stop shared container %s", container.getDockerImageName()), e);
+                    }
+                });
+        CONTAINERS.clear();
+    }
+}
@@ -29,6 +29,18 @@ public class TestContainersSettings {
     private static final String AUTO_REMOVE_RESOURCES_ENV = TESTCONTAINERS_ENV_PREFIX + "AUTO_REMOVE_RESOURCES";
     private static final String AUTO_REMOVE_RESOURCES_DEFAULT = "true";
 
+    private static final String SHARED_PROPERTY = TESTCONTAINERS_PROPERTY_PREFIX + "shared";
+    private static final String SHARED_ENV = TESTCONTAINERS_ENV_PREFIX + "SHARED";
+    private static final String SHARED_DEFAULT = "false";
+
+    private static final String REUSE_PROPERTY = TESTCONTAINERS_PROPERTY_PREFIX + "reuse";
+    private static final String REUSE_ENV = TESTCONTAINERS_ENV_PREFIX + "REUSE";
+    private static final String REUSE_DEFAULT = "false";
+
+    private static final String PARALLEL_THREADS_PROPERTY = "yaks.parallel.threads";
+    private static final String PARALLEL_THREADS_ENV = "YAKS_PARALLEL_THREADS";
+    private static final String PARALLEL_THREADS_DEFAULT = "1";
+
     private TestContainersSettings() {
         // prevent instantiation of utility class
     }
@@ -43,4 +55,32 @@ public class TestContainersSettings {
                 System.getenv(AUTO_REMOVE_RESOURCES_ENV) != null ? System.getenv(AUTO_REMOVE_RESOURCES_ENV) : AUTO_REMOVE_RESOURCES_DEFAULT));
     }
 
+    /**
+     * When set to true containers are started once and shared by all scenarios in the same JVM.
+     * Scenarios asking for a container with the same image and configuration get the running instance.
+     * @return
+     */
+    public static boolean isShared() {
+        return Boolean.parseBoolean(System.getProperty(SHARED_PROPERTY,
+                System.getenv(SHARED_ENV) != null ? System.getenv(SHARED_ENV) : SHARED_DEFAULT));
+    }
+
+    /**
+     * When set to true containers are marked as reusable so Testcontainers is able to keep them running across test runs.
+     * Requires reuse to be enabled in the Testcontainers configuration (testcontainers.reuse.enable=true).
+     * @return
+     */
+    public static boolean isReuse() {
+        return Boolean.parseBoolean(System.getProperty(REUSE_PROPERTY,
+                System.getenv(REUSE_ENV) != null ? System.getenv(REUSE_ENV) : REUSE_DEFAULT));
+    }
+
+    /**
+     * True when the runtime executes scenarios in parallel with more than one worker thread.
+     * @return
+     */
+    public static boolean isParallel() {
+        return Integer.parseInt(System.getProperty(PARALLEL_THREADS_PROPERTY,
+                System.getenv(PARALLEL_THREADS_ENV) != null ? System.getenv(PARALLEL_THREADS_ENV) : PARALLEL_THREADS_DEFAULT)) > 1;
+    }
 }
@@ -17,26 +17,171 @@
 
 package org.citrusframework.yaks.testcontainers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCaseRunner;
 import com.consol.citrus.annotations.CitrusFramework;
 import com.consol.citrus.annotations.CitrusResource;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class TestContainersSteps {
 
     protected static final String TESTCONTAINERS_VARIABLE_PREFIX = "YAKS_TESTCONTAINERS_";
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TestContainersSteps.class);
+
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
-    protected static boolean autoRemoveResources = TestContainersSettings.isAutoRemoveResources();
+    /** Bound to the executing thread so scenarios are able to run in parallel */
+    private static final ThreadLocal<Boolean> AUTO_REMOVE_RESOURCES = ThreadLocal.withInitial(TestContainersSettings::isAutoRemoveResources);
+    private static final ThreadLocal<Boolean> SHARED_CONTAINERS = ThreadLocal.withInitial(TestContainersSettings::isShared);
+
+    /** Container steps of the current scenario able to start containers in parallel */
+    private static final ThreadLocal<Map<String, ContainerStartup>> CONTAINERS = ThreadLocal.withInitial(HashMap::new);
+
+    @After
+    public void after(Scenario scenario) {
+        // reset to the default settings so the next scenario on this worker thread is not affected
+        AUTO_REMOVE_RESOURCES.remove();
+        SHARED_CONTAINERS.remove();
+        CONTAINERS.remove();
+    }
+
+    @Given("^Enable shared Testcontainers$")
+    public void enableSharedContainers() {
+        SHARED_CONTAINERS.set(true);
+    }
+
+    @Given("^start containers: (.+)$")
+    public void startContainers(String names) {
+        List<String> containers = Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> name.toLowerCase(Locale.US))
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<ContainerStartup> startups = new ArrayList<>();
+        for (String name : containers) {
+            ContainerStartup startup = CONTAINERS.get().get(name);
+            if (startup == null) {
+                throw new CitrusRuntimeException(String.format("Unsupported container '%s' - supported containers are %s",
+                        name, CONTAINERS.get().keySet()));
+            }
+            startups.add(startup);
+        }
+
+        // capture scenario settings on this thread as the containers start on worker threads
+        ContainerStartup.Settings settings = ContainerStartup.Settings.capture(context);
+
+        LOG.info(String.format("Starting containers %s in parallel", containers));
+
+        ExecutorService executor = Executors.newFixedThreadPool(startups.size());
+        CompletionService<ContainerStartup> completionService = new ExecutorCompletionService<>(executor);
+        CitrusRuntimeException failure = null;
+
+        try {
+            for (ContainerStartup startup : startups) {
+                completionService.submit(() -> {
+                    startup.startContainer(settings);
+                    return startup;
+                });
+            }
+
+            // wait for all startups even when one fails so no container is left half started
+            for (int i = 0; i < startups.size(); i++) {
+                try {
+                    ContainerStartup startup = completionService.take().get();
+                    if (failure == null) {
+                        startup.completeStartup(settings);
+                    }
+                } catch (ExecutionException | RuntimeException e) {
+                    Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                    if (failure == null) {
+                        failure = new CitrusRuntimeException("Failed to start containers", cause);
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            failure = new CitrusRuntimeException("Interrupted while starting containers", e);
+        } finally {
+            executor.shutdown();
+        }
+
+        if (failure != null) {
+            abortStartups(startups, settings, failure);
+            throw failure;
+        }
+
+        LOG.info(String.format("Successfully started containers %s", containers));
+    }
+
+    /**
+     * Stops all non-shared containers of a failed parallel startup, including the containers that have started successfully.
+     * @param startups
+     * @param settings
+     * @param failure
+     */
+    private static void abortStartups(List<ContainerStartup> startups, ContainerStartup.Settings settings,
+                                      CitrusRuntimeException failure) {
+        for (ContainerStartup startup : startups) {
+            try {
+                startup.abortStartup(settings);
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
 
     @Given("^Disable auto removal of Testcontainers resources$")
     public void disableAutoRemove() {
-        autoRemoveResources = false;
+        AUTO_REMOVE_RESOURCES.set(false);
+    }
+
+    protected static boolean isAutoRemoveResources() {
+        return AUTO_REMOVE_RESOURCES.get();
+    }
+
+    protected static boolean isSharedContainers() {
+        return SHARED_CONTAINERS.get();
+    }
+
+    /**
+     * Registers container steps for the current scenario so the container is able to take part in a parallel startup.
+     * @param name
+     * @param startup
+     */
+    static void registerContainer(String name, ContainerStartup startup) {
+        CONTAINERS.get().put(name, startup);
     }
 }
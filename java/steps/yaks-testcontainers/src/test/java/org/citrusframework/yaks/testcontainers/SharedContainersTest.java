@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SharedContainersTest {
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Test
+    public void shouldStartSharedContainerOnce() throws Exception {
+        List<?> key = Arrays.asList("concurrent", "1.0");
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<GenericContainer<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    return SharedContainers.getOrStart(key, () -> createContainer(200L), container -> {});
+                }));
+            }
+
+            ready.countDown();
+
+            GenericContainer<?> container = results.get(0).get(10L, TimeUnit.SECONDS);
+            for (Future<GenericContainer<?>> result : results) {
+                Assertions.assertThat(result.get(10L, TimeUnit.SECONDS)).isSameAs(container);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertThat(started.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryFailedStartup() {
+        List<?> key = Arrays.asList("failing", "1.0");
+
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> SharedContainers.getOrStart(key, () -> {
+                    throw new IllegalStateException("Failed to start container");
+                }, container -> {}));
+
+        GenericContainer<?> container = SharedContainers.getOrStart(key, () -> createContainer(0L), c -> {});
+        Assertions.assertThat(container.isRunning()).isTrue();
+        Assertions.assertThat(started.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldStartNewContainerAfterStop() {
+        List<?> key = Arrays.asList("stopped", "1.0");
+
+        GenericContainer<?> container = SharedContainers.getOrStart(key, () -> createContainer(0L), c -> {});
+        SharedContainers.stop(container);
+
+        GenericContainer<?> restarted = SharedContainers.getOrStart(key, () -> createContainer(0L), c -> {});
+        Assertions.assertThat(restarted).isNotSameAs(container);
+        Assertions.assertThat(started.get()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private GenericContainer<?> createContainer(long startupTime) {
+        GenericContainer<?> container = Mockito.mock(GenericContainer.class);
+        AtomicBoolean running = new AtomicBoolean();
+
+        Mockito.doAnswer(invocation -> {
+            Thread.sleep(startupTime);
+            started.incrementAndGet();
+            running.set(true);
+            return null;
+        }).when(container).start();
+        Mockito.doAnswer(invocation -> {
+            running.set(false);
+            return null;
+        }).when(container).stop();
+        Mockito.when(container.isRunning()).thenAnswer(invocation -> running.get());
+        Mockito.when(container.getDockerImageName()).thenReturn("test:1.0");
+
+        return container;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.testcontainers;
+
+import java.lang.reflect.Field;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestContainersStepsTest {
+
+    private final TestContainersSteps steps = new TestContainersSteps();
+
+    @Before
+    public void setup() throws Exception {
+        TestContext context = new TestContext();
+        context.setVariable(TestContainersSteps.TESTCONTAINERS_VARIABLE_PREFIX + "DB_INIT_SCRIPT", "CREATE TABLE todo;");
+
+        Field contextField = TestContainersSteps.class.getDeclaredField("context");
+        contextField.setAccessible(true);
+        contextField.set(steps, context);
+    }
+
+    @After
+    public void cleanup() {
+        steps.after(null);
+    }
+
+    @Test
+    public void shouldPassScenarioSettingsToParallelStartup() {
+        RecordingStartup database = new RecordingStartup();
+        RecordingStartup broker = new RecordingStartup();
+        TestContainersSteps.registerContainer("database", database);
+        TestContainersSteps.registerContainer("broker", broker);
+
+        steps.enableSharedContainers();
+        steps.disableAutoRemove();
+        steps.startContainers("database, broker");
+
+        for (RecordingStartup startup : new RecordingStartup[] { database, broker }) {
+            Assertions.assertThat(startup.startThread).isNotSameAs(Thread.currentThread());
+            Assertions.assertThat(startup.completeThread).isSameAs(Thread.currentThread());
+            Assertions.assertThat(startup.settings.isShared()).isTrue();
+            Assertions.assertThat(startup.settings.isAutoRemove()).isFalse();
+            Assertions.assertThat(startup.settings.getInitScript()).isEqualTo("CREATE TABLE todo;");
+        }
+    }
+
+    @Test
+    public void shouldResetScenarioStateAfterScenario() {
+        TestContainersSteps.registerContainer("database", new RecordingStartup());
+        steps.enableSharedContainers();
+
+        steps.after(null);
+
+        Assertions.assertThat(TestContainersSteps.isSharedContainers()).isEqualTo(TestContainersSettings.isShared());
+        Assertions.assertThatExceptionOfType(CitrusRuntimeException.class)
+                .isThrownBy(() -> steps.startContainers("database"));
+    }
+
+    @Test
+    public void shouldStopStartedContainersWhenStartupFails() {
+        RecordingStartup database = new RecordingStartup();
+        RecordingStartup broker = new RecordingStartup();
+        broker.failure = new IllegalStateException("Failed to pull image");
+        TestContainersSteps.registerContainer("database", database);
+        TestContainersSteps.registerContainer("broker", broker);
+
+        Throwable error = Assertions.catchThrowable(() -> steps.startContainers("database, broker"));
+
+        Assertions.assertThat(error).isInstanceOf(CitrusRuntimeException.class).hasMessage("Failed to start containers");
+        Assertions.assertThat(error.getCause()).isSameAs(broker.failure);
+
+        Assertions.assertThat(database.startThread).isNotNull();
+        Assertions.assertThat(database.aborted).isTrue();
+        Assertions.assertThat(broker.aborted).isTrue();
+    }
+
+    private static class RecordingStartup implements ContainerStartup {
+        private volatile Thread startThread;
+        private volatile Thread completeThread;
+        private volatile Settings settings;
+        private volatile RuntimeException failure;
+        private volatile boolean aborted;
+
+        @Override
+        public void startContainer(Settings settings) {
+            this.startThread = Thread.currentThread();
+            this.settings = settings;
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void completeStartup(Settings settings) {
+            this.completeThread = Thread.currentThread();
+        }
+
+        @Override
+        public void abortStartup(Settings settings) {
+            this.aborted = true;
+        }
+    }
+}
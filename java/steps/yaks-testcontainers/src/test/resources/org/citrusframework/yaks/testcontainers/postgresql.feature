@@ -9,6 +9,7 @@ Feature: PostgreSQL
     CREATE TABLE IF NOT EXISTS todo (id SERIAL PRIMARY KEY, task VARCHAR, completed INTEGER);
     """
     Then start PostgreSQL container
+    And snapshot PostgreSQL database
     And log 'Started PostgreSQL container: ${YAKS_TESTCONTAINERS_POSTGRESQL_CONTAINER_NAME}'
 
   Scenario: Connect and insert
@@ -27,5 +28,15 @@ Feature: PostgreSQL
     And SQL query: SELECT * FROM todo WHERE ID=2
     And verify column TASK=Write YAKS blog
 
+  Scenario: Restore snapshot
+    Given Data source: postgreSQL
+    And restore PostgreSQL database
+    When SQL query: SELECT COUNT(*) AS TODOS FROM todo
+    Then verify column TODOS=0
+    Given execute SQL update: INSERT INTO todo VALUES (3, 'Restore snapshot', 0)
+    When restore PostgreSQL database
+    And SQL query: SELECT COUNT(*) AS TODOS FROM todo
+    Then verify column TODOS=0
+
   Scenario: Stop container
     Given stop PostgreSQL container